@@ -0,0 +1,83 @@
+package com.example.oauth.benchmark;
+
+import com.example.oauth.service.JwtKeyMaterial;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 호출마다 키/파서를 새로 만드는 기존 방식 vs 미리 만들어 둔 JwtKeyMaterial 재사용 비교
+ */
+@State(Scope.Benchmark)
+public class JwtKeyMaterialBenchmark {
+
+    private static final String SECRET = "THIS_IS_SECRET_KEY_FOR_JWT_1234567890";
+
+    private JwtKeyMaterial keyMaterial;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        keyMaterial = JwtKeyMaterial.fromSecret(SECRET);
+        token = Jwts.builder()
+                .setSubject("testuser@example.com")
+                .claim("roles", List.of("ROLE_USER", "ROLE_HRM_MANAGER"))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3600000))
+                .signWith(keyMaterial.getKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 기존 방식: 검증할 때마다 키 + 파서 생성
+     */
+    @Benchmark
+    public Claims parsePerCall() {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * 변경 방식: 미리 만들어 둔 파서 재사용
+     */
+    @Benchmark
+    public Claims parseCached() {
+        return keyMaterial.getParser()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * 기존 방식: 서명할 때마다 키 생성
+     */
+    @Benchmark
+    public String signPerCall() {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .setSubject("testuser@example.com")
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 변경 방식: 미리 만들어 둔 키 재사용
+     */
+    @Benchmark
+    public String signCached() {
+        return Jwts.builder()
+                .setSubject("testuser@example.com")
+                .signWith(keyMaterial.getKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.oauth.benchmark;
+
+import com.example.oauth.benchmark.support.BenchmarkFixtures;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.service.JwtKeyManager;
+import com.example.oauth.service.JwtService;
+import com.example.oauth.service.RevokedTokenSet;
+import com.example.oauth.service.RoleClaimCodec;
+import com.example.oauth.service.RoleDictionary;
+import com.example.oauth.service.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+
+/**
+ * JwtService 토큰 발급 / 검증 경로
+ * - tokenCache=true는 같은 토큰을 반복 검증하는 경우(VerifiedTokenCache 적중)
+ * - compactClaims=true는 roles를 Role_ID 비트셋으로 넣는 경우 (토큰이 짧아져 Base64/JSON 처리량 감소)
+ */
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    @Param({"false", "true"})
+    public boolean tokenCache;
+
+    @Param({"false", "true"})
+    public boolean compactClaims;
+
+    private JwtService jwtService;
+    private AuthUsersEntity user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(
+                new JwtKeyManager(BenchmarkFixtures.SECRET),
+                new VerifiedTokenCache(tokenCache, 10000),
+                new RevokedTokenSet(1000),
+                new RoleClaimCodec(RoleDictionary.of(Map.of(
+                        1, "ROLE_USER",
+                        2, "ROLE_HRM_MANAGER",
+                        3, "ROLE_RECEIPT_APPROVER")), compactClaims),
+                BenchmarkFixtures.EXPIRATION_MS);
+        user = BenchmarkFixtures.manager("{noop}" + BenchmarkFixtures.PASSWORD);
+        token = jwtService.createToken(user);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtService.createToken(user);
+    }
+
+    @Benchmark
+    public String createTokenWithProfile() {
+        return jwtService.createTokenWithProfile(user, "매니저", "https://example.com/profile/manager.png");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getAllClaims() {
+        return jwtService.getAllClaims(token);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.oauth.benchmark;
+
+import com.example.oauth.benchmark.support.BenchmarkFixtures;
+import com.example.oauth.service.CustomUserDetailsService;
+import com.example.oauth.service.UserDetailsCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+/**
+ * CustomUserDetailsService.loadUserByUsername (DB 대신 Mockito 리포지토리 목)
+ * - 엔티티 → UserDetails / 권한 변환 비용만 측정
+ */
+@State(Scope.Benchmark)
+public class UserDetailsServiceBenchmark {
+
+    private CustomUserDetailsService userDetailsService;
+
+    @Setup
+    public void setUp() {
+        userDetailsService = new CustomUserDetailsService(
+                BenchmarkFixtures.usersRepository(BenchmarkFixtures.manager("{noop}" + BenchmarkFixtures.PASSWORD)),
+                new UserDetailsCache(false, 0, Duration.ofMinutes(10)));
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(BenchmarkFixtures.USERNAME);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.oauth.benchmark.support;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthUsersRepository;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 벤치마크 공통 고정 데이터 (실행할 때마다 같은 입력으로 측정)
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SECRET = "THIS_IS_SECRET_KEY_FOR_JWT_1234567890";
+    public static final long EXPIRATION_MS = 3600000;
+    public static final String USERNAME = "manager@example.com";
+    public static final String PASSWORD = "1234";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * DataInitializer의 매니저 유저와 같은 구성 (롤 3개)
+     */
+    public static AuthUsersEntity manager(String encodedPassword) {
+        AuthUsersEntity user = AuthUsersEntity.builder()
+                .userId(2)
+                .username(USERNAME)
+                .password(encodedPassword)
+                .name("매니저유저")
+                .build();
+        user.getRoles().add(AuthRolesEntity.builder().roleId(1).roleName("ROLE_USER").serviceName("common").build());
+        user.getRoles().add(AuthRolesEntity.builder().roleId(2).roleName("ROLE_HRM_MANAGER").serviceName("hrm").build());
+        user.getRoles().add(AuthRolesEntity.builder().roleId(3).roleName("ROLE_RECEIPT_APPROVER").serviceName("receipt").build());
+        return user;
+    }
+
+    /**
+     * DB 없이 서비스 계층 비용만 측정하기 위한 AuthUsersRepository 목
+     * - 주어진 유저의 인증 정보 조회만 스텁, 나머지 메서드는 Mockito 기본값(빈 Optional 등)
+     * - stubOnly: 호출 기록을 남기지 않아 측정 중 메모리가 쌓이지 않음
+     */
+    public static AuthUsersRepository usersRepository(AuthUsersEntity... users) {
+        AuthUsersRepository repository = mock(AuthUsersRepository.class, withSettings().stubOnly());
+        for (AuthUsersEntity user : users) {
+            when(repository.findCredentialsByUsername(user.getUsername()))
+                    .thenReturn(Optional.of(AuthUserCredentials.from(user)));
+        }
+        return repository;
+    }
+}
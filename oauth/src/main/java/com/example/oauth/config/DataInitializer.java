@@ -4,6 +4,7 @@ import com.example.oauth.entity.AuthRolesEntity;
 import com.example.oauth.entity.AuthUsersEntity;
 import com.example.oauth.repository.AuthRolesRepository;
 import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.service.RoleCatalog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +20,7 @@ public class DataInitializer {
 
     private final AuthUsersRepository userRepository;
     private final AuthRolesRepository roleRepository;
+    private final RoleCatalog roleCatalog;
     private final PasswordEncoder passwordEncoder;
 
     @Bean
@@ -62,16 +64,9 @@ public class DataInitializer {
     }
 
     private AuthRolesEntity createRoleIfNotFound(String roleName, String serviceName) {
-        // Role_Name이 같은 경우가 있나 체크
-        return roleRepository.findAll().stream()
-                .filter(r -> r.getRoleName().equals(roleName))
-                .findFirst()
-                .orElseGet(() -> {
-                    AuthRolesEntity newRole = AuthRolesEntity.builder()
-                            .roleName(roleName)
-                            .serviceName(serviceName)
-                            .build();
-                    return roleRepository.save(newRole);
-                });
+        // Role_Name이 같은 경우가 있나 체크 (롤 카탈로그에서 바로 찾고, 없을 때만 INSERT)
+        RoleCatalog.Role role = roleCatalog.getOrCreate(roleName, serviceName);
+        // 유저-롤 연결에는 Role_ID만 필요하므로 프록시 참조 사용
+        return roleRepository.getReferenceById(role.roleId());
     }
 }
@@ -0,0 +1,47 @@
+package com.example.oauth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * HikariCP 풀 크기 자동 설정 (auth.datasource.auto-pool-size=true, 운영 프로필에서 사용)
+ * - spring.datasource.hikari.maximum-pool-size를 직접 지정하지 않았을 때만 적용
+ * - 크기 = CPU 코어 수 × auth.datasource.connections-per-core + 1 (HikariCP "About Pool Sizing" 공식)
+ * - minimum-idle = maximum-pool-size (고정 크기 풀 → 부하가 몰릴 때 연결 생성 대기 없음)
+ * - 실제 대기/사용량은 /actuator/metrics의 hikaricp.connections.* (active, pending, acquire)로 보고 조정
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "auth.datasource.auto-pool-size", havingValue = "true")
+public class DataSourceTuningConfig {
+
+    private static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    private static final String MINIMUM_IDLE = "spring.datasource.hikari.minimum-idle";
+
+    @Bean
+    static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    int connectionsPerCore = environment.getProperty("auth.datasource.connections-per-core", Integer.class, 2);
+                    int poolSize = Runtime.getRuntime().availableProcessors() * connectionsPerCore + 1;
+
+                    dataSource.setMaximumPoolSize(poolSize);
+                    if (!environment.containsProperty(MINIMUM_IDLE)) {
+                        dataSource.setMinimumIdle(poolSize);
+                    }
+                    log.info("HikariCP pool '{}' sized to {} connections ({} cores x {} + 1)",
+                            dataSource.getPoolName(), poolSize,
+                            Runtime.getRuntime().availableProcessors(), connectionsPerCore);
+                }
+                return bean;
+            }
+        };
+    }
+}
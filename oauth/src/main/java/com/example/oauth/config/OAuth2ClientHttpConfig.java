@@ -0,0 +1,122 @@
+package com.example.oauth.config;
+
+import com.example.oauth.security.OAuth2ClientTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 소셜 로그인(구글 / 카카오) 서버 간 호출용 HTTP 클라이언트
+ * - 토큰 교환(token-uri)과 사용자 정보 조회(user-info-uri)가 같은 커넥션 풀을 공유 (keep-alive 재사용)
+ * - 기본 RestTemplate(SimpleClientHttpRequestFactory)은 타임아웃이 없어서 Provider가 느리면 요청 스레드가 무한정 대기
+ * - 호출마다 auth.oauth2.client.requests 지표 기록 (/actuator/metrics)
+ */
+@Configuration
+public class OAuth2ClientHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oauth2HttpClient(
+            @Value("${auth.oauth2.http.max-connections:50}") int maxConnections,
+            @Value("${auth.oauth2.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${auth.oauth2.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${auth.oauth2.http.response-timeout:5s}") Duration responseTimeout,
+            @Value("${auth.oauth2.http.idle-timeout:30s}") Duration idleTimeout) {
+        return createHttpClient(maxConnections, maxConnectionsPerRoute, connectTimeout, responseTimeout, idleTimeout);
+    }
+
+    /**
+     * 인가 코드 → 액세스 토큰 교환 (SecurityConfig의 tokenEndpoint에 등록)
+     */
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient(
+            CloseableHttpClient oauth2HttpClient, MeterRegistry meterRegistry) {
+        DefaultAuthorizationCodeTokenResponseClient client = new DefaultAuthorizationCodeTokenResponseClient();
+        client.setRestOperations(tokenRestTemplate(oauth2HttpClient, meterRegistry));
+        return client;
+    }
+
+    /**
+     * 사용자 정보 조회 (SocialOAuth2UserService에서 사용)
+     */
+    @Bean
+    public RestOperations oauth2UserInfoRestOperations(CloseableHttpClient oauth2HttpClient, MeterRegistry meterRegistry) {
+        return userInfoRestTemplate(oauth2HttpClient, meterRegistry);
+    }
+
+    public static CloseableHttpClient createHttpClient(int maxConnections, int maxConnectionsPerRoute,
+                                                       Duration connectTimeout, Duration responseTimeout,
+                                                       Duration idleTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                // Provider(호스트)가 몇 개 안 되므로 호스트당 한도가 실제 한도
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(responseTimeout))
+                        // 오래 쉰 커넥션은 쓰기 전에 확인 (Provider 쪽에서 먼저 끊은 경우)
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 커넥션 대기 시간
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+    }
+
+    /**
+     * Spring Security 기본 토큰 클라이언트와 같은 컨버터 / 에러 처리 + 커넥션 풀
+     */
+    public static RestTemplate tokenRestTemplate(CloseableHttpClient httpClient, MeterRegistry meterRegistry) {
+        RestTemplate restTemplate = new RestTemplate(List.of(
+                new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter()));
+        return configure(restTemplate, httpClient, meterRegistry, "token");
+    }
+
+    /**
+     * DefaultOAuth2UserService 기본값과 같은 컨버터 / 에러 처리 + 커넥션 풀
+     */
+    public static RestTemplate userInfoRestTemplate(CloseableHttpClient httpClient, MeterRegistry meterRegistry) {
+        return configure(new RestTemplate(), httpClient, meterRegistry, "user-info");
+    }
+
+    private static RestTemplate configure(RestTemplate restTemplate, CloseableHttpClient httpClient,
+                                          MeterRegistry meterRegistry, String endpoint) {
+        // 응답이 작은 JSON이라 버퍼링해도 부담 없음 → 지연 시간에 본문 수신까지 포함
+        ClientHttpRequestFactory requestFactory =
+                new BufferingClientHttpRequestFactory(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.setRequestFactory(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.getInterceptors().add(new OAuth2ClientTimingInterceptor(meterRegistry, endpoint));
+        return restTemplate;
+    }
+}
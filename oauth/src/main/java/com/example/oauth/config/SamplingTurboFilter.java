@@ -0,0 +1,53 @@
+package com.example.oauth.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지정한 로거(하위 포함)의 INFO 이하 로그를 sampleRate 비율만 남기는 Logback 터보 필터 (logback-spring.xml)
+ * - 터보 필터는 로그 이벤트를 만들기 전에 동작 → 버려지는 로그는 메시지 포맷 / 큐 적재 비용 없음
+ * - WARN 이상은 항상 남김
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerName;
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (sampleRate >= 1.0 || level.isGreaterOrEqual(Level.WARN) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        return name.equals(loggerName)
+                || (name.startsWith(loggerName) && name.charAt(loggerName.length()) == '.');
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    /**
+     * 0.0 ~ 1.0 (1.0이면 모두 남김)
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void start() {
+        if (loggerName == null) {
+            addError("loggerName is required");
+            return;
+        }
+        super.start();
+    }
+}
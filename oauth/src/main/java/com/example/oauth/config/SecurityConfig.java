@@ -1,9 +1,27 @@
 package com.example.oauth.config;
 
+import com.example.oauth.security.BCryptStrengthCalibrator;
+import com.example.oauth.security.BoundedPasswordEncoder;
+import com.example.oauth.security.JwtAuthenticationFilter;
+import com.example.oauth.security.LoadSheddingAuthenticationProvider;
+import com.example.oauth.security.PasswordHashingRejectedException;
+import com.example.oauth.security.RefreshTokenCookies;
+import com.example.oauth.security.SocialOAuth2UserService;
+import com.example.oauth.service.AuthMetrics;
 import com.example.oauth.service.CustomUserDetailsService;
+import com.example.oauth.service.JwtService;
+import com.example.oauth.service.RefreshTokenService;
+import com.example.oauth.service.TokenRevocationService;
+import com.example.oauth.service.UserDetailsCache;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -12,9 +30,26 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.SavedRequestAwareAuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
+import java.util.Map;
 
 /**
  * Spring Security 설정 클래스
@@ -26,24 +61,107 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
+    private final JwtService jwtService;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final SocialOAuth2UserService socialOAuth2UserService;
+    private final AuthMetrics authMetrics;
+    private final ClientRegistrationRepository clientRegistrationRepository;
+
+    // 폼 로그인 처리 요청 (loginPage와 같은 경로의 POST)
+    private static final RequestMatcher FORM_LOGIN_REQUEST =
+            AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/auth/login-page");
+    // 폼 로그인 시작 시각 (Timer.Sample) 요청 속성
+    private static final String FORM_LOGIN_SAMPLE = SecurityConfig.class.getName() + ".FORM_LOGIN_SAMPLE";
+
+    // 폼 로그인 성공 시 기본 동작 (defaultSuccessUrl("/auth/success")와 같음)
+    private final AuthenticationSuccessHandler formLoginSuccessHandler = formLoginSuccessHandler("/auth/success");
+
+    // OAuth2 로그인 실패 시 기본 동작 (loginPage + "?error")
+    private final AuthenticationFailureHandler oauth2FailureHandler =
+            new SimpleUrlAuthenticationFailureHandler("/auth/login-page?error");
+    private final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient;
+
+    /**
+     * true  : 세션을 만들지 않고 매 요청을 Bearer JWT로만 인증 (STATELESS)
+     * false : 기존처럼 로그인 후 HTTP 세션 유지 (Bearer JWT도 함께 허용)
+     */
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
+
+    // 비밀번호 해시 전용 스레드 수 (0 이하면 CPU 코어 수)
+    @Value("${auth.password-hash.threads:0}")
+    private int passwordHashThreads;
+
+    // 해시 대기 큐 크기 (가득 차면 503)
+    @Value("${auth.password-hash.queue-capacity:64}")
+    private int passwordHashQueueCapacity;
+
+    // 큐 대기 + 해시 계산 최대 시간
+    @Value("${auth.password-hash.timeout:5s}")
+    private Duration passwordHashTimeout;
+
+    @Value("${auth.password-hash.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    // 관리 엔드포인트 전용 포트 (운영 프로필, 내부망 전용), 없으면 -1
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    // 토큰 일괄 검사(/auth/introspect/**) 호출에 필요한 롤
+    @Value("${auth.introspection.required-role:ROLE_TOKEN_INTROSPECTOR}")
+    private String introspectionRole;
+
+    // BCrypt strength 고정값 (0이면 시작 시 target-latency 기준으로 자동 측정)
+    @Value("${auth.password-hash.strength:0}")
+    private int passwordHashStrength;
+
+    // 자동 측정 시 목표 해시(검증) 시간
+    @Value("${auth.password-hash.target-latency:250ms}")
+    private Duration passwordHashTargetLatency;
 
     /**
      * PasswordEncoder Bean 등록 (BCrypt 사용)
+     * - strength는 설정값 또는 시작 시 측정값 사용
+     * - DelegatingPasswordEncoder로 "{bcrypt}" prefix를 붙여 저장, prefix 없는 기존 해시도 BCrypt로 검증
+     * - 기존 해시가 현재 strength보다 약하면 로그인 성공 시 자동으로 재해시 (UserDetailsPasswordService)
+     * - BCrypt 계산은 Tomcat 요청 스레드가 아닌 크기 제한된 전용 풀에서 실행
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        int strength = passwordHashStrength > 0
+                ? passwordHashStrength
+                : BCryptStrengthCalibrator.calibrate(passwordHashTargetLatency, 10, 16);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = passwordHashThreads > 0 ? passwordHashThreads : Runtime.getRuntime().availableProcessors();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegating, threads,
+                passwordHashQueueCapacity, passwordHashTimeout, authMetrics);
+        authMetrics.bindPasswordHashPool(encoder);
+        return encoder;
     }
 
     /**
      * DaoAuthenticationProvider 설정
      * - CustomUserDetailsService와 PasswordEncoder 연동
+     * - UserDetailsCache에 있으면 DB 조회 없이 인증
+     * - 해시 풀 거절은 캐시 재시도 없이 바로 503 (LoadSheddingAuthenticationProvider)
      */
     @Bean
     public AuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        DaoAuthenticationProvider provider = new LoadSheddingAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserCache(userDetailsCache);
+        // 로그인 성공 시 약한 해시를 새 strength로 교체
+        provider.setUserDetailsPasswordService(userDetailsService);
         return provider;
     }
 
@@ -68,18 +186,68 @@ public class SecurityConfig {
 
             // 인증/인가 규칙 설정
             .authorizeHttpRequests(auth -> auth
+                // 토큰 일괄 검사는 서명 검증 CPU를 쓰고 토큰 유효 여부를 알려주므로 서비스 계정만 (아래 /auth/** 보다 먼저)
+                .requestMatchers("/auth/introspect/**").hasAuthority(introspectionRole)
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers("/auth/**", "/oauth2/**").permitAll()
+                // JWKS 공개키 (리소스 서버가 토큰을 로컬 검증할 때 사용)
+                .requestMatchers("/.well-known/jwks.json").permitAll()
+                // 헬스 체크
+                .requestMatchers("/actuator/health").permitAll()
+                // 지표는 내부망 전용 관리 포트(management.server.port)로 들어온 요청만 인증 없이 허용
+                // 앱 포트에서는 인증 필요 (아래 anyRequest)
+                .requestMatchers(this::isManagementPortRequest).permitAll()
                 // 그 외 모든 요청은 인증 필요
                 .anyRequest().authenticated()
             )
 
+            // 세션 정책
+            // STATELESS : 인증 정보를 세션에 저장하지 않음 → 스티키 세션 없이 노드 수평 확장 가능
+            // (OAuth2 인가 요청 state 저장은 로그인 과정 중에만 잠깐 세션을 사용)
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(stateless ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED)
+            )
+
+            // Bearer JWT 인증 필터 (roles 클레임으로 바로 Authentication 생성, DB 조회 없음)
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class)
+
+            // 폼 로그인 시작 시각 기록 → 아래 성공 / 실패 핸들러에서 auth.login 지연 시간으로 기록
+            .addFilterBefore((request, response, chain) -> {
+                if (FORM_LOGIN_REQUEST.matches((HttpServletRequest) request)) {
+                    request.setAttribute(FORM_LOGIN_SAMPLE, authMetrics.start());
+                }
+                chain.doFilter(request, response);
+            }, UsernamePasswordAuthenticationFilter.class)
+
+            // API 호출은 로그인 페이지로 리다이렉트하지 않고 401
+            .exceptionHandling(exceptions -> exceptions
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                        new OrRequestMatcher(
+                                AntPathRequestMatcher.antMatcher("/auth/introspect/**"),
+                                AntPathRequestMatcher.antMatcher("/actuator/**")))
+            )
+
             // 폼 로그인 설정
             .formLogin(form -> form
                 // 커스텀 로그인 페이지 GET 매핑
                 .loginPage("/auth/login-page").permitAll()
-                // 로그인 성공 시 이동 URL
-                .defaultSuccessUrl("/auth/success")
+                // 로그인 성공 시 지표(auth.login) 기록 후 /auth/success로 이동 (저장된 요청이 있으면 그쪽)
+                .successHandler((request, response, authentication) -> {
+                    authMetrics.loginSucceeded(formLoginSample(request), "form", "local");
+                    formLoginSuccessHandler.onAuthenticationSuccess(request, response, authentication);
+                })
+                // 실패 이유별 지표(auth.login, auth.login.failures) 기록
+                // 해시 큐 포화로 거절된 경우는 로그인 실패가 아니라 503
+                .failureHandler((request, response, exception) -> {
+                    authMetrics.loginFailed(formLoginSample(request), "form", "local",
+                            AuthMetrics.loginFailureReason(exception));
+                    if (exception instanceof PasswordHashingRejectedException) {
+                        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                    } else {
+                        response.sendRedirect("/auth/login-page?error");
+                    }
+                })
             )
 
             // OAuth2 로그인 설정
@@ -89,25 +257,80 @@ public class SecurityConfig {
             	// 카카오로 인증 시도 : /oauth2/authorization/kakao
             	// 인증 후 : /auth/oauth2/success
                 .loginPage("/auth/login-page")
+                // 사용자 정보 조회 시 Provider별 추출기로 OAuth2UserInfo까지 만들어 principal에 담음
+                .userInfoEndpoint(userInfo -> userInfo.userService(socialOAuth2UserService))
+                // 인가 코드 → 토큰 교환도 커넥션 풀 / 타임아웃이 있는 클라이언트로 (OAuth2ClientHttpConfig)
+                .tokenEndpoint(token -> token.accessTokenResponseClient(authorizationCodeTokenResponseClient))
                 // OAuth2 로그인 성공 시 이동 URL (강제)
                 // 구글, 카카오 등 여러 소셜 로그인이 여기 통합
 //                .defaultSuccessUrl("/auth/oauth2/success", true)
                 .successHandler((request, response, authentication) -> {
-                    response.sendRedirect("/auth/oauth2/success");
+                    if (stateless) {
+                        // 세션에 인증 정보가 남지 않으므로 리다이렉트 대신 같은 요청 안에서 forward → JWT 발급
+                        request.getRequestDispatcher("/auth/oauth2/success").forward(request, response);
+                    } else {
+                        response.sendRedirect("/auth/oauth2/success");
+                    }
+                })
+                // 실패 이유별 지표(auth.login.failures) 기록 후 기본 동작과 같이 로그인 페이지로
+                .failureHandler((request, response, exception) -> {
+                    authMetrics.loginFailed("oauth2", oauth2Provider(request),
+                            AuthMetrics.loginFailureReason(exception));
+                    oauth2FailureHandler.onAuthenticationFailure(request, response, exception);
                 })
-//                .failureHandler((request, response, exception) -> {
-//                    System.out.println("OAuth2 로그인 실패: " + exception.getMessage());
-//                    response.sendRedirect("/auth/login-page?error=" + exception.getMessage());
-//                })
             )
 
             // 로그아웃 설정
             .logout(logout -> logout
                 .logoutUrl("/auth/logout")
+                // 액세스 토큰(Bearer) 폐기, 리프레시 토큰(패밀리 전체) 폐기 + 쿠키 삭제
+                .addLogoutHandler((request, response, authentication) -> {
+                    String accessToken = JwtAuthenticationFilter.resolveToken(request);
+                    if (accessToken != null) {
+                        tokenRevocationService.revoke(accessToken);
+                    }
+                    String refreshToken = RefreshTokenCookies.read(request);
+                    if (refreshToken != null) {
+                        refreshTokenService.revoke(refreshToken);
+                    }
+                    RefreshTokenCookies.clear(response);
+                })
                 .logoutSuccessUrl("/auth/login-page")
                 .permitAll()
             );
 
         return http.build();
     }
+
+    private static AuthenticationSuccessHandler formLoginSuccessHandler(String defaultTargetUrl) {
+        SavedRequestAwareAuthenticationSuccessHandler handler = new SavedRequestAwareAuthenticationSuccessHandler();
+        handler.setDefaultTargetUrl(defaultTargetUrl);
+        return handler;
+    }
+
+    /**
+     * 폼 로그인 시작 시각 (필터를 거치지 않은 경우는 지금부터, 지연 시간은 0에 가깝게 기록됨)
+     */
+    private Timer.Sample formLoginSample(HttpServletRequest request) {
+        return request.getAttribute(FORM_LOGIN_SAMPLE) instanceof Timer.Sample sample
+                ? sample
+                : authMetrics.start();
+    }
+
+    /**
+     * 관리 포트가 앱 포트와 따로 설정돼 있고, 요청이 그 포트로 들어왔는지
+     */
+    private boolean isManagementPortRequest(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
+
+    /**
+     * 콜백 경로(/login/oauth2/code/{registrationId})의 Provider
+     * - 경로는 요청자가 마음대로 넣을 수 있어서 설정에 등록된 Provider만 태그로 사용 (그 외는 unknown)
+     */
+    private String oauth2Provider(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String registrationId = path.substring(path.lastIndexOf('/') + 1);
+        return clientRegistrationRepository.findByRegistrationId(registrationId) != null ? registrationId : "unknown";
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.oauth.config;
+
+import com.example.oauth.dto.UserImportResult;
+import com.example.oauth.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 대량 가입 명령
+ * - java -jar oauth.jar --import-users=users.csv --spring.main.web-application-type=none
+ * - 파일 여러 개는 --import-users를 여러 번 지정
+ * - 끝나면 애플리케이션 종료 (실패한 행이 있으면 종료 코드 1)
+ * - 옵션이 없으면 아무것도 하지 않음 (일반 서버 실행)
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE) // 롤 시딩(DataInitializer) 이후
+@RequiredArgsConstructor
+public class UserImportRunner implements ApplicationRunner {
+
+    private static final String OPTION = "import-users";
+
+    private final UserImportService userImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        long failed = 0;
+        for (String file : args.getOptionValues(OPTION)) {
+            UserImportResult result = userImportService.importUsers(Path.of(file));
+            failed += result.failed();
+        }
+
+        int exitCode = failed > 0 ? 1 : 0;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
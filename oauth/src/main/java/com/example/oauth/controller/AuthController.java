@@ -1,21 +1,57 @@
 package com.example.oauth.controller;
 
-import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.dto.OAuth2UserInfo;
+import com.example.oauth.dto.TokenIntrospection;
+import com.example.oauth.dto.TokenResponse;
+import com.example.oauth.dto.UserProfile;
 import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.security.AuthUserDetails;
+import com.example.oauth.security.JwtAuthenticationFilter;
+import com.example.oauth.security.RefreshTokenCookies;
+import com.example.oauth.security.SocialOAuth2User;
+import com.example.oauth.security.TokenFingerprint;
+import com.example.oauth.service.AuthMetrics;
+import com.example.oauth.service.InvalidRefreshTokenException;
 import com.example.oauth.service.JwtService;
+import com.example.oauth.service.RefreshTokenService;
+import com.example.oauth.service.SocialUserService;
+import com.example.oauth.service.TokenIntrospectionService;
+import com.example.oauth.service.TokenRevocationService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
-import java.util.Map;
-import java.util.Optional;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 인증을 처리하는 컨트롤러
@@ -26,16 +62,27 @@ import org.springframework.web.bind.annotation.*;
 // final 붙은 항목은 생성자로 자동 생성해줌
 // ⚡ 스프링 프레임워크는 @Autowired 없이도 final 필드를 포함한 생성자가 있으면 자동으로 의존성을 주입
 @RequiredArgsConstructor
+// 로그인 / 토큰 발급 이벤트 로거 (auth.events, 샘플링 대상)
+@Slf4j(topic = "auth.events")
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final AuthUsersRepository authUsersRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final SocialUserService socialUserService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+
+    // 토큰 배열 읽기용 (문자열 길이 한도 = 토큰 최대 길이), 처음 요청 때 만듦
+    private volatile JsonFactory tokenArrayFactory;
 
     /**
      * 일반 로그인 처리 (POST /auth/login)
      * - RequestBody: { "username": "?", "password": "?" }
-     * - 성공 시 JWT 토큰 반환
+     * - 성공 시 JWT 토큰 반환, 리프레시 토큰은 HttpOnly 쿠키(refresh_token)로 발급
      */
     @PostMapping("/login")
 //    public @ResponseBody String login(@RequestBody LoginRequest request) {
@@ -53,7 +100,9 @@ public class AuthController {
 			 * 		}
 			 */
 			@RequestParam("username") String username,
-			@RequestParam("password") String password) {
+			@RequestParam("password") String password,
+			HttpServletRequest request,
+			HttpServletResponse response) {
     	
         // 사용자 인증 시도
     	// 1) 스프링 시큐리티 인증
@@ -64,25 +113,36 @@ public class AuthController {
     	 *		→ AuthenticationProvider가 UserDetailsService를 사용하여 DB에서 사용자 정보를 조회
     	 *		→ 내부적으로 CustomUserDetailsService의 loadUserByUsername() 메서드를 호출
     	 */
-//        Authentication authentication = authenticationManager.authenticate( // authentication 변수를 사용하지 않음
-    	authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-//                        request.getUsername(),
-//                        request.getPassword()
-                		username,
-                		password
-                )
-        );
-        
-        // 3) DB에서 AuthUsersEntity 찾아오기
-        AuthUsersEntity userEntity = authUsersRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found in DB"));
+    	// 인증 결과(principal + 권한)에 토큰 발급에 필요한 정보가 모두 들어있음
+        Timer.Sample sample = authMetrics.start();
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+//                            request.getUsername(),
+//                            request.getPassword()
+                            username,
+                            password
+                    )
+            );
+        } catch (AuthenticationException e) {
+            // 실패 이유별 지표 (bad_password / overloaded / locked ...), 응답은 기존 예외 처리 그대로
+            authMetrics.loginFailed(sample, "password", "local", AuthMetrics.loginFailureReason(e));
+            throw e;
+        }
         
-        // 4) JWT 생성 (roles 포함)
-        String jwt = jwtService.createToken(userEntity);
+        // 2) JWT 생성 (roles 포함)
+        //    DB를 다시 조회하지 않고 인증 결과의 username / 권한으로 바로 발급
+        String jwt = jwtService.createToken(authentication);
+
+        // 3) 리프레시 토큰 발급 (principal의 User_ID 사용, DB 재조회 없음)
+        if (authentication.getPrincipal() instanceof AuthUserDetails authUser) {
+            issueRefreshToken(authUser.getUserId(), request, response);
+        }
         
-        // 콘솔에 토큰 찍어보기
-        System.out.println("Generated JWT: " + jwt);
+        // 토큰 원문 대신 지문만 기록 (비동기 로거, 샘플링은 logback-spring.xml)
+        authMetrics.loginSucceeded(sample, "password", "local");
+        log.info("login method=password user={} token={}", authentication.getName(), TokenFingerprint.of(jwt));
 
         // 응답으로 JWT 반환
         return "일반 로그인 성공! 발급된 JWT: " + jwt;
@@ -99,122 +159,43 @@ public class AuthController {
 
     /**
      * OAuth2 로그인 성공 시 이동 (GET /auth/oauth2/success)
-     * - 여기서 JWT 토큰을 생성하여 콘솔에 찍어줍니다.
+     * - 여기서 JWT 토큰을 생성하여 응답으로 돌려줍니다. (로그에는 토큰 지문만 기록)
      * - 구글/카카오 모두 이곳으로 리다이렉트됨
      */
     @GetMapping("/oauth2/success")
-    public @ResponseBody String oauth2LoginSuccess(Authentication authentication) {
+    public @ResponseBody String oauth2LoginSuccess(Authentication authentication,
+                                                   HttpServletRequest request,
+                                                   HttpServletResponse response) {
     	
+        // 콜백 처리 시간 (유저 조회 / 가입 + 토큰 발급, Provider 호출 시간은 auth.oauth2.client.requests)
+        Timer.Sample sample = authMetrics.start();
+
     	// OAuth2AuthenticationToken으로 다운캐스팅
         OAuth2AuthenticationToken oauthToken = (OAuth2AuthenticationToken) authentication;
 
         // 어느 Provider(google/kakao)인지 확인
         String registrationId = oauthToken.getAuthorizedClientRegistrationId();
         
-        // 인증 후 principal 정보(소셜 프로필 정보 꺼내기)
-        OAuth2User oAuth2User = oauthToken.getPrincipal();
-        
-        // userEntity를 가져오거나 없으면 가입 처리(DB 매핑용 사용자 엔티티)
-        AuthUsersEntity userEntity;
-        
-        String email = null;
-        String nickname = null;
-        String profileImage = null;
-        
-        if ("google".equals(registrationId)) {
-            // ************************
-            // (A) 구글 로그인 처리
-            // ************************
-            // 구글은 보통 "sub"라는 고유 ID가 있음 / 구글 계정마다 변하지 않는 유니크 ID
-            // authentication.getName() => sub 값이 들어오거나 이메일이 들어올 수도 있음 (설정에 따라 다름)
-
-            String googleSubject = oAuth2User.getAttribute("sub"); // e.g. "1175547227..."
-            email = oAuth2User.getAttribute("email");       // e.g. "xxxxx@gmail.com"
-            nickname = (String) oAuth2User.getAttributes().get("name"); // 예) 구글 계정 이름
-            profileImage = (String) oAuth2User.getAttributes().get("picture");
-
-            // DB에서 유저 찾기
-            Optional<AuthUsersEntity> optionalUser = authUsersRepository.findByUsername(email);
-            
-            if (optionalUser.isPresent()) {
-                userEntity = optionalUser.get();
-            } else {
-                // 유저가 없으면 새로 가입
-                AuthUsersEntity newUser = AuthUsersEntity.builder()
-                        .username(email)
-                        .password("GOOGLE_OAUTH")
-                        .build();
-                userEntity = authUsersRepository.save(newUser);
-            }
-            
-            System.out.println("===============================");
-            System.out.println("OAuth2 구글 로그인 성공! 발급된 JWT");
-            System.out.println("googleSubject : " + googleSubject);
-            System.out.println("email : " + email);
-            System.out.println("nickname : " + nickname);
-            System.out.println("profileImage : " + profileImage);
-            System.out.println("===============================");
-            
-            // 필요 시 userEntity에 googleSubject 필드를 추가로 저장할 수도 있음
-
-        } else if ("kakao".equals(registrationId)) {
-            // ************************
-            // (B) 카카오 로그인 처리
-            // ************************
-            // 카카오는 oAuth2User.getAttributes() 구조가 조금 다름
-            // {id=1234567890, kakao_account={..., email=...}, properties={nickname=...} ...}
-            Map<String, Object> attributes = oAuth2User.getAttributes();
-            // 카카오 고유 id (Long형이거나 String으로 변환)
-            String kakaoId = String.valueOf(attributes.get("id"));
-
-            // 카카오 계정 정보
-            Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
-            if (kakaoAccount != null) {
-                email = (String) kakaoAccount.get("email"); // 사용자가 동의한 경우만 내려옴
-            }
-            Map<String, Object> properties = (Map<String, Object>) attributes.get("properties");
-            if (properties != null) {
-                nickname = (String) properties.get("nickname");
-                profileImage = (String) properties.get("profile_image");
-            }
-            
-            // 1) DB에서 email 기준으로 사용자 조회 (email이 null일 수도 있음!)
-            //    혹은 kakaoId를 username으로 매핑할 수도 있음 (정책에 따라)
-            if (email == null) {
-                email = "kakaoUser_" + kakaoId;
-            }
-
-            // DB에서 유저 찾기
-            Optional<AuthUsersEntity> userOptional = authUsersRepository.findByUsername(email);
-
-            if (userOptional.isPresent()) {
-                userEntity = userOptional.get();
-            } else {
-                // 유저가 없으면 새로 생성 후 저장
-                userEntity = AuthUsersEntity.builder()
-                        .username(email)
-                        .password("KAKAO_OAUTH")
-                        .build();
-                userEntity = authUsersRepository.save(userEntity);
-            }
-            System.out.println("===============================");
-            System.out.println("OAuth2 카카오 로그인 성공! 발급된 JWT");
-            System.out.println("email : " + email);
-            System.out.println("nickname : " + nickname);
-            System.out.println("profileImage : " + profileImage);
-            System.out.println("===============================");
-        } else {
-            // 그 외 다른 Provider면 에러 처리 or 확장 가능
+        // 소셜 프로필은 SocialOAuth2UserService가 로그인 시 Provider별 추출기로 이미 꺼내 둠
+        if (!(oauthToken.getPrincipal() instanceof SocialOAuth2User socialUser)) {
+            // 추출기가 없는 Provider (SocialOAuth2UserService를 거치지 않은 경우)
+            authMetrics.loginFailed(sample, "oauth2", "unknown", "unknown_provider");
             return "알 수 없는 소셜 로그인입니다. provider=" + registrationId;
         }
+        OAuth2UserInfo userInfo = socialUser.getUserInfo();
+
+        // 소셜 계정으로 유저 조회, 처음이면 가입 (프로필 변경분은 DB에 반영)
+        AuthUserCredentials credentials = socialUserService.resolve(userInfo);
         
-        // JWT 발급
-        String jwt = jwtService.createToken(userEntity);
-        // JWT 발급 (추가 정보도 넣고 싶으면 createToken 메서드 수정)
-//        String jwt = jwtService.createTokenWithProfile(userEntity, nickname, profileImage);
+        // JWT 발급 (롤은 조인 프로젝션으로 읽음, 압축 모드가 아니면 닉네임 / 프로필 이미지도 포함)
+        String jwt = jwtService.createTokenWithProfile(credentials, userInfo.nickname(), userInfo.profileImage());
+        // 리프레시 토큰 발급 (쿠키)
+        issueRefreshToken(credentials.userId(), request, response);
         
-        // 콘솔에 찍어 확인
-        System.out.println("OAuth2 Login JWT: " + jwt);
+        authMetrics.loginSucceeded(sample, "oauth2", registrationId);
+        // 프로필(닉네임 / 이미지)은 로그에 남기지 않음
+        log.info("login method=oauth2 provider={} user={} token={}",
+                registrationId, credentials.username(), TokenFingerprint.of(jwt));
 
         return "OAuth2 로그인 성공! 발급된 JWT: " + jwt;
     }
@@ -232,19 +213,218 @@ public class AuthController {
         // 현재 로그인된 사용자 이름 가져오기
         String username = authentication.getName();
 
-        // DB에서 AuthUsersEntity 조회 (username이 email이라면 그에 맞게 바꿔주세요)
-        AuthUsersEntity userEntity = authUsersRepository.findByUsername(username)
+        // DB에서 유저 + 롤 조회 (username이 email이라면 그에 맞게 바꿔주세요)
+        AuthUserCredentials credentials = authUsersRepository.findCredentialsByUsername(username)
             .orElseThrow(() -> new RuntimeException("User not found in DB"));
 
         // JWT 생성
-        String jwt = jwtService.createToken(userEntity);
+        String jwt = jwtService.createToken(credentials);
 
-        // 콘솔에 찍기
-        System.out.println("OAuth2 Token Generated: " + jwt);
+        log.info("token issued user={} token={}", username, TokenFingerprint.of(jwt));
 
         return jwt; // 브라우저에서 확인 가능
     }
 
+    /**
+     * 내 프로필 조회 (GET /auth/profile, Authorization: Bearer)
+     * - 압축 토큰(jwt.claims.compact=true)에는 닉네임/프로필 이미지가 없으므로 필요한 화면에서만 조회
+     */
+    @GetMapping("/profile")
+    public ResponseEntity<UserProfile> profile(Authentication authentication) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return authUsersRepository.findByUsername(authentication.getName())
+                .map(UserProfile::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    /**
+     * 액세스 토큰 재발급 (POST /auth/refresh)
+     * - 리프레시 토큰: refresh_token 쿠키 또는 refresh_token 파라미터
+     * - 성공 시 리프레시 토큰도 새로 발급(회전), 사용한 토큰은 다시 쓸 수 없음
+     * - 비밀번호 해시나 소셜 로그인 왕복 없이 DB 인덱스 조회만으로 처리
+     */
+    @PostMapping("/refresh")
+    public @ResponseBody TokenResponse refresh(
+            @RequestParam(value = "refresh_token", required = false) String refreshTokenParam,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        String refreshToken = refreshTokenParam != null ? refreshTokenParam : RefreshTokenCookies.read(request);
+        if (refreshToken == null) {
+            throw new InvalidRefreshTokenException("Missing refresh token");
+        }
+
+        TokenResponse tokens = refreshTokenService.refresh(refreshToken);
+        RefreshTokenCookies.set(request, response, tokens.getRefreshToken(), tokens.getRefreshExpiresIn());
+        return tokens;
+    }
+
+    /**
+     * 액세스 토큰 폐기 (POST /auth/revoke)
+     * - 폐기할 토큰: token 파라미터 또는 Authorization: Bearer 헤더
+     * - 이 노드에는 즉시, 다른 노드에는 다음 동기화(jwt.revocation.sync-interval) 때 반영
+     * - 잘못된/이미 폐기된 토큰이어도 200 (RFC 7009와 같은 방식)
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@RequestParam(value = "token", required = false) String token,
+                                       HttpServletRequest request) {
+        String target = token != null ? token : JwtAuthenticationFilter.resolveToken(request);
+        if (target != null) {
+            tokenRevocationService.revoke(target);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 토큰 일괄 검사 (POST /auth/introspect/batch)
+     * - 요청: ["<JWT>", "<JWT>", ...] (최대 auth.introspection.max-batch-size개)
+     * - 응답: 요청 순서대로 [{"active":true,"sub":...,"roles":[...],"exp":...}, {"active":false}, ...]
+     * - 검증은 병렬로, 응답은 앞쪽 청크가 끝나는 대로 스트리밍 (chunked)
+     * - auth.introspection.required-role 롤이 있는 Bearer JWT로만 호출 가능 (SecurityConfig)
+     * - 본문은 전부 읽어 리스트로 만들지 않고 스트림으로 읽다가 개수/길이 한도를 넘는 순간 413
+     *   Content-Length가 없어도(chunked) 읽은 바이트 수로 끊고, 문자열 하나도 토큰 최대 길이 이상 버퍼링하지 않음
+     */
+    @PostMapping(value = "/introspect/batch",
+                 consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> introspectBatch(HttpServletRequest request) throws IOException {
+        // Content-Length가 있으면 읽기 전에 거절
+        if (request.getContentLengthLong() > tokenIntrospectionService.getMaxRequestBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        List<String> tokens;
+        try {
+            tokens = readTokens(new LimitedInputStream(request.getInputStream(),
+                    tokenIntrospectionService.getMaxRequestBytes()));
+        } catch (BodyTooLargeException | StreamConstraintsException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        } catch (JsonProcessingException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (tokens == null) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        List<CompletableFuture<List<TokenIntrospection>>> chunks = tokenIntrospectionService.introspect(tokens);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                json.writeStartArray();
+                for (CompletableFuture<List<TokenIntrospection>> chunk : chunks) {
+                    for (TokenIntrospection result : chunk.join()) {
+                        json.writeObject(result);
+                    }
+                    json.flush();
+                }
+                json.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * JSON 문자열 배열을 스트림으로 읽음
+     * @return 토큰 수나 토큰 길이가 한도를 넘으면 null (남은 본문은 읽지 않음)
+     */
+    private List<String> readTokens(InputStream in) throws IOException {
+        int maxBatchSize = tokenIntrospectionService.getMaxBatchSize();
+        int maxTokenLength = tokenIntrospectionService.getMaxTokenLength();
+
+        try (JsonParser parser = tokenArrayFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array of tokens");
+            }
+            List<String> tokens = new ArrayList<>();
+            for (JsonToken next = parser.nextToken(); next != JsonToken.END_ARRAY; next = parser.nextToken()) {
+                if (next != JsonToken.VALUE_STRING) {
+                    throw new JsonParseException(parser, "Expected a token string");
+                }
+                if (tokens.size() == maxBatchSize || parser.getTextLength() > maxTokenLength) {
+                    return null;
+                }
+                tokens.add(parser.getText());
+            }
+            return tokens;
+        }
+    }
+
+    private JsonFactory tokenArrayFactory() {
+        JsonFactory factory = tokenArrayFactory;
+        if (factory == null) {
+            factory = JsonFactory.builder()
+                    .streamReadConstraints(StreamReadConstraints.builder()
+                            .maxStringLength(tokenIntrospectionService.getMaxTokenLength())
+                            .build())
+                    .build();
+            tokenArrayFactory = factory;
+        }
+        return factory;
+    }
+
+    /**
+     * 읽은 바이트 수가 한도를 넘으면 BodyTooLargeException (Content-Length 없는 chunked 요청, 공백 채우기 대비)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long n) throws BodyTooLargeException {
+            remaining -= n;
+            if (remaining < 0) {
+                throw new BodyTooLargeException();
+            }
+        }
+    }
+
+    private static final class BodyTooLargeException extends IOException {
+
+        BodyTooLargeException() {
+            super("Request body too large");
+        }
+    }
+
+    private void issueRefreshToken(Integer userId, HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = refreshTokenService.issue(userId);
+        RefreshTokenCookies.set(request, response, refreshToken, refreshTokenService.getRefreshValidityInSeconds());
+    }
+
     /**
      * 로그인 요청 DTO
      */
@@ -0,0 +1,39 @@
+package com.example.oauth.controller;
+
+import com.example.oauth.security.PasswordHashingRejectedException;
+import com.example.oauth.service.InvalidRefreshTokenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/**
+ * 컨트롤러 공통 예외 처리
+ */
+@ControllerAdvice
+public class AuthExceptionHandler {
+
+    @Value("${auth.password-hash.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    /**
+     * 비밀번호 해시 큐 포화 → 503 Service Unavailable + Retry-After
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<String> handlePasswordHashingRejected(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body("로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 리프레시 토큰 없음 / 만료 / 폐기 / 재사용 → 401 (다시 로그인 필요)
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<String> handleInvalidRefreshToken(InvalidRefreshTokenException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body("리프레시 토큰이 유효하지 않습니다. 다시 로그인해주세요.");
+    }
+}
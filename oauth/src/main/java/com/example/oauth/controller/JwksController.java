@@ -0,0 +1,51 @@
+package com.example.oauth.controller;
+
+import com.example.oauth.service.JwtKeyManager;
+import com.example.oauth.service.JwtKeyMaterial;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+/**
+ * JWKS(JSON Web Key Set) 공개 엔드포인트 (GET /.well-known/jwks.json)
+ * - RS256 / ES256 서명 공개키 목록, 리소스 서버는 이 응답을 캐시해두고 kid로 키를 골라 로컬 검증
+ * - JSON / ETag는 키 링이 바뀔 때만 새로 만들어지므로 요청마다 직렬화 / 해시하지 않음
+ * - Cache-Control: public, max-age + ETag (변경 없으면 304, 304에도 Cache-Control을 붙여 캐시 수명 갱신)
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyManager keyManager;
+
+    @Value("${jwt.jwks.max-age:5m}")
+    private Duration maxAge;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = "application/jwk-set+json")
+    public ResponseEntity<String> jwks(WebRequest request) {
+        JwtKeyMaterial keyMaterial = keyManager.current();
+        String etag = keyMaterial.getJwksEtag();
+
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .eTag(etag)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .contentType(MediaType.parseMediaType("application/jwk-set+json"))
+                .body(keyMaterial.getJwksJson());
+    }
+}
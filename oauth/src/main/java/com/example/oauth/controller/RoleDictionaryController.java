@@ -0,0 +1,50 @@
+package com.example.oauth.controller;
+
+import com.example.oauth.service.RoleClaimCodec;
+import com.example.oauth.service.RoleDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 롤 사전 공개 엔드포인트 (GET /auth/roles/dictionary)
+ * - 압축 토큰(rv, rb 클레임)을 직접 해석하는 리소스 서버용
+ * - 캐시해 둔 사전으로 rb의 켜진 Role_ID들 지문(id:name 줄의 SHA-256 앞 8자리)을 계산해 rv와 다를 때만 다시 받으면 됨 (ETag = version)
+ */
+@RestController
+@RequiredArgsConstructor
+public class RoleDictionaryController {
+
+    private final RoleClaimCodec roleClaimCodec;
+
+    @Value("${auth.role-dictionary.max-age:5m}")
+    private Duration maxAge;
+
+    @GetMapping("/auth/roles/dictionary")
+    public ResponseEntity<Map<String, Object>> dictionary(WebRequest request) {
+        RoleDictionary dictionary = roleClaimCodec.getDictionary();
+        String etag = "\"" + dictionary.getVersion() + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .eTag(etag)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .body(Map.of(
+                        "version", dictionary.getVersion(),
+                        "roles", dictionary.getRoles()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.oauth.dto;
+
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+
+import java.util.*;
+
+/**
+ * 로그인 / 토큰 발급용 유저 읽기 전용 프로젝션
+ * - AuthUsersRepository.findCredentialsBy...가 조인 쿼리 1번으로 만들어 반환
+ * - 엔티티가 아니라서 영속성 컨텍스트에 올라가지 않음 (dirty checking / 스냅샷 / 롤 컬렉션 로딩 없음)
+ *
+ * @param userId    User_ID
+ * @param username  Email (username 역할)
+ * @param password  비밀번호 해시
+ * @param roleNames Role_Name 목록 (수정 불가)
+ */
+public record AuthUserCredentials(Integer userId, String username, String password, List<String> roleNames) {
+
+    public AuthUserCredentials {
+        roleNames = List.copyOf(roleNames);
+    }
+
+    /**
+     * (userId, username, password, roleName) 행 목록 → 프로젝션 1개
+     * - 롤이 없는 유저는 left join이라 roleName이 null인 행 하나
+     */
+    public static Optional<AuthUserCredentials> fromRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] first = rows.get(0);
+        List<String> roleNames = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[3] != null) {
+                roleNames.add((String) row[3]);
+            }
+        }
+        return Optional.of(new AuthUserCredentials((Integer) first[0], (String) first[1], (String) first[2], roleNames));
+    }
+
+    /**
+     * 이미 로딩된 엔티티 → 프로젝션 (테스트 / 벤치마크용)
+     */
+    public static AuthUserCredentials from(AuthUsersEntity user) {
+        return new AuthUserCredentials(user.getUserId(), user.getUsername(), user.getPassword(),
+                user.getRoles().stream().map(AuthRolesEntity::getRoleName).toList());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.oauth.dto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 소셜 계정에 연결된 유저 (AuthUserIdentitiesRepository.findLinkedUser 결과)
+ * - 토큰 발급용 credentials + 변경 여부 비교용 프로필
+ */
+public record LinkedUser(AuthUserCredentials credentials, String nickname, String profileImage) {
+
+    /**
+     * (userId, username, password, roleName, nickname, profileImage) 행 목록 → 1개
+     */
+    public static Optional<LinkedUser> fromRows(List<Object[]> rows) {
+        return AuthUserCredentials.fromRows(rows).map(credentials -> {
+            Object[] first = rows.get(0);
+            return new LinkedUser(credentials, (String) first[4], (String) first[5]);
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.oauth.dto;
+
+import java.io.Serializable;
+
+/**
+ * 소셜 로그인 성공 시 Provider 응답에서 뽑아낸 프로필 (OAuth2UserInfoExtractor가 생성)
+ * - 세션 모드에서는 principal(SocialOAuth2User)과 함께 세션에 저장됨
+ *
+ * @param provider       registrationId (google / kakao)
+ * @param providerUserId Provider 고유 ID (구글 sub, 카카오 id), 계정 연결 키
+ * @param email          auth_users.Email로 쓸 값 (Provider가 인증한 이메일이 없으면 "{provider}User_{id}" 대체값)
+ * @param emailVerified  Provider가 인증한 이메일인지 (true일 때만 같은 Email의 기존 계정에 연결)
+ * @param nickname       닉네임 (없으면 null)
+ * @param profileImage   프로필 이미지 URL (없으면 null)
+ */
+public record OAuth2UserInfo(String provider, String providerUserId, String email, boolean emailVerified,
+                             String nickname, String profileImage) implements Serializable {
+}
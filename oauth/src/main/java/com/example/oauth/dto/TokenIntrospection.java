@@ -0,0 +1,35 @@
+package com.example.oauth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 토큰 검사 결과 한 건 (POST /auth/introspect/batch)
+ * - 유효하지 않은 토큰은 {"active":false}만 내려감 (이유는 알려주지 않음)
+ * - exp는 epoch 초 (RFC 7662와 같은 형식)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class TokenIntrospection {
+
+    private static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null);
+
+    private final boolean active;
+    private final String sub;
+    private final List<String> roles;
+    private final Long exp;
+
+    public static TokenIntrospection active(VerifiedToken token) {
+        Long exp = token.getExpiration() == null ? null : token.getExpiration().getEpochSecond();
+        return new TokenIntrospection(true, token.getSubject(), token.getRoles(), exp);
+    }
+
+    public static TokenIntrospection inactive() {
+        return INACTIVE;
+    }
+}
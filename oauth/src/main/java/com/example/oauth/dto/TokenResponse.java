@@ -0,0 +1,34 @@
+package com.example.oauth.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 재발급 응답 (POST /auth/refresh)
+ * - 리프레시 토큰은 HttpOnly 쿠키로도 내려가지만, 쿠키를 못 쓰는 클라이언트를 위해 본문에도 포함
+ */
+@Getter
+@AllArgsConstructor
+public class TokenResponse {
+
+    @JsonProperty("access_token")
+    private final String accessToken;
+
+    @JsonProperty("refresh_token")
+    private final String refreshToken;
+
+    // 액세스 토큰 유효 시간 (초)
+    @JsonProperty("expires_in")
+    private final long expiresIn;
+
+    // 리프레시 토큰 유효 시간 (초), 쿠키 Max-Age 용도
+    @JsonIgnore
+    private final long refreshExpiresIn;
+
+    @JsonProperty("token_type")
+    public String getTokenType() {
+        return "Bearer";
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.oauth.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+import java.util.List;
+
+/**
+ * 대량 가입 파일의 한 줄 (CSV 한 행 / NDJSON 한 줄)
+ *
+ * @param email    Email (username 역할), NDJSON에서는 "username"도 허용
+ * @param password 평문 비밀번호 또는 "{bcrypt}..." 형식의 기존 해시
+ * @param name     이름 (선택)
+ * @param roles    Role_Name 목록 (선택, 없으면 권한 없이 가입)
+ */
+public record UserImportRecord(@JsonAlias("username") String email,
+                               String password,
+                               String name,
+                               List<String> roles) {
+
+    public UserImportRecord {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+}
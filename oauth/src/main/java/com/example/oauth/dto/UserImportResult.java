@@ -0,0 +1,23 @@
+package com.example.oauth.dto;
+
+import java.time.Duration;
+
+/**
+ * 대량 가입 결과
+ *
+ * @param read     파일에서 읽은 행 수
+ * @param imported 새로 가입된 유저 수
+ * @param skipped  이미 있는 / 파일 안에서 중복된 유저 수
+ * @param failed   형식 오류, 필수값 누락, 모르는 롤 등으로 건너뛴 행 수
+ * @param elapsed  소요 시간
+ */
+public record UserImportResult(long read, long imported, long skipped, long failed, Duration elapsed) {
+
+    /**
+     * 초당 처리 행 수
+     */
+    public double throughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : read / seconds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.oauth.dto;
+
+import com.example.oauth.entity.AuthUsersEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 내 프로필 응답 (GET /auth/profile)
+ * - 닉네임 / 프로필 이미지는 토큰(압축 모드)에 넣지 않고 필요할 때 이 API로 조회
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfile {
+
+    private final String username;
+    private final String nickname;
+    private final String profileImage;
+
+    public static UserProfile from(AuthUsersEntity user) {
+        return new UserProfile(user.getUsername(), user.getNickname(), user.getProfileImage());
+    }
+}
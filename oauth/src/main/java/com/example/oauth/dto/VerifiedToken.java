@@ -0,0 +1,56 @@
+package com.example.oauth.dto;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임을 한 번에 꺼내 둔 불변 객체
+ * - JwtService.verify()가 반환
+ * - subject, roles, nickname 등을 여러 개 읽어도 HMAC 검증/JSON 파싱은 한 번만 일어남
+ */
+@Getter
+public final class VerifiedToken {
+
+    private final String tokenId;       // jti (폐기 목록 키, 이전 버전 토큰은 null)
+    private final String subject;       // 유저 식별 (예: testuser@example.com)
+    private final List<String> roles;   // 권한 목록 (수정 불가)
+    private final String nickname;      // 소셜 닉네임 (없으면 null)
+    private final String profileImage;  // 소셜 프로필 이미지 (없으면 null)
+    private final Instant issuedAt;
+    private final Instant expiration;
+
+    private VerifiedToken(String tokenId, String subject, List<String> roles, String nickname, String profileImage,
+                          Instant issuedAt, Instant expiration) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.roles = roles;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    /**
+     * 검증된 Claims → VerifiedToken 변환
+     * - roles는 클레임 형식(목록 / 압축 비트셋)에 따라 RoleClaimCodec이 미리 풀어서 넘겨줌
+     */
+    public static VerifiedToken from(Claims claims, List<String> roles) {
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                roles,
+                claims.get("nickname", String.class),
+                claims.get("profileImage", String.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.oauth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * auth_refresh_tokens 테이블 매핑 엔티티
+ * - 리프레시 토큰 원문은 저장하지 않고 SHA-256 해시만 저장
+ * - 같은 로그인에서 이어지는 토큰들은 같은 Family_ID를 가짐 (회전할 때마다 새 행, 이전 행은 Used_At 기록)
+ * - 이미 사용된 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 Revoked 처리
+ */
+@Entity
+@Table(name = "auth_refresh_tokens",
+       indexes = @Index(name = "idx_auth_refresh_tokens_family", columnList = "Family_ID"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthRefreshTokensEntity {
+
+    @Id
+    @Column(name = "Refresh_Token_ID")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long refreshTokenId;
+
+    // 토큰 원문의 SHA-256 (base64url), 조회 키
+    @Column(name = "Token_Hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "Family_ID", nullable = false, length = 36)
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "User_ID", nullable = false)
+    private AuthUsersEntity user;
+
+    @Column(name = "Created_At", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "Expires_At", nullable = false)
+    private Instant expiresAt;
+
+    // 회전(새 토큰 발급)에 사용된 시각, null이면 아직 미사용
+    @Column(name = "Used_At")
+    private Instant usedAt;
+
+    @Column(name = "Revoked", nullable = false)
+    private boolean revoked;
+}
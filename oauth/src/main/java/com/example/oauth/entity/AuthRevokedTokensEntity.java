@@ -0,0 +1,41 @@
+package com.example.oauth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * auth_revoked_tokens 테이블 매핑 엔티티
+ * - exp 전에 폐기된 액세스 토큰의 jti 목록
+ * - 토큰이 만료되면 더 이상 의미가 없으므로 Expires_At 이후 주기적으로 삭제
+ * - 각 노드는 Revoked_At 기준으로 증분 조회해서 메모리(RevokedTokenSet)에 반영
+ */
+@Entity
+@Table(name = "auth_revoked_tokens",
+       indexes = {
+           @Index(name = "idx_auth_revoked_tokens_revoked_at", columnList = "Revoked_At"),
+           @Index(name = "idx_auth_revoked_tokens_expires_at", columnList = "Expires_At")
+       })
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthRevokedTokensEntity {
+
+    @Id
+    @Column(name = "Revoked_Token_ID")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long revokedTokenId;
+
+    // 토큰의 jti 클레임
+    @Column(name = "Token_ID", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    // 토큰의 exp, 이 시각이 지나면 목록에서 제거
+    @Column(name = "Expires_At", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "Revoked_At", nullable = false)
+    private Instant revokedAt;
+}
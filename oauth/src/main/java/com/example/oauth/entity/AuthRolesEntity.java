@@ -1,10 +1,16 @@
 package com.example.oauth.entity;
 
+import com.example.oauth.entity.listener.RoleCatalogListener;
+import com.example.oauth.entity.listener.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Table(name = "auth_roles")
+@EntityListeners({
+    UserCacheInvalidationListener.class, // 롤 변경 시 유저 캐시 전체 무효화
+    RoleCatalogListener.class            // 롤 카탈로그(메모리)에 반영
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +22,8 @@ public class AuthRolesEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer roleId;
 
-    @Column(name = "Role_Name")
+    // 유니크 (인덱스) → findByRoleName
+    @Column(name = "Role_Name", nullable = false, unique = true)
     private String roleName;  // e.g. "ROLE_HRM_MANAGER"
 
     @Column(name = "Service_Name")
@@ -0,0 +1,49 @@
+package com.example.oauth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * auth_user_identities 테이블 매핑 엔티티
+ * - 소셜 계정(Provider + Provider 고유 ID) → auth_users 연결
+ * - (Provider, Provider_User_ID)가 PK라 재방문 유저는 인덱스 조회 1번으로 찾음
+ * - 행 생성은 AuthUserIdentitiesRepository.upsert(네이티브 INSERT ... ON CONFLICT)로만 함
+ */
+@Entity
+@Table(name = "auth_user_identities",
+       indexes = @Index(name = "idx_auth_user_identities_user", columnList = "User_ID"))
+@IdClass(AuthUserIdentitiesEntity.Key.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthUserIdentitiesEntity {
+
+    // google / kakao (registrationId)
+    @Id
+    @Column(name = "Provider", length = 20)
+    private String provider;
+
+    // 구글 sub, 카카오 id
+    @Id
+    @Column(name = "Provider_User_ID", length = 100)
+    private String providerUserId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "User_ID", nullable = false)
+    private AuthUsersEntity user;
+
+    /**
+     * 복합 키 (Provider, Provider_User_ID)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String provider;
+        private String providerUserId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.oauth.entity;
 
+import com.example.oauth.entity.listener.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.*;
@@ -12,6 +13,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "auth_users")
+@EntityListeners(UserCacheInvalidationListener.class) // 저장/수정 시 유저 캐시 무효화
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +22,9 @@ public class AuthUsersEntity {
 
     @Id
     @Column(name = "User_ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 INSERT를 해야 ID를 알 수 있어서 JDBC 배치가 꺼짐 → 시퀀스 + 50개씩 미리 할당 (대량 가입)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auth_users_seq")
+    @SequenceGenerator(name = "auth_users_seq", sequenceName = "auth_users_seq", allocationSize = 50)
     private Integer userId;
 
     // DB 컬럼 Password와 매핑 (Bcrypt로 암호화된 패스워드)
@@ -36,6 +40,13 @@ public class AuthUsersEntity {
     @Column(name = "Name")
     private String name;
 
+    // 소셜 로그인 프로필 (토큰에 넣지 않고 GET /auth/profile로 조회)
+    @Column(name = "Nickname")
+    private String nickname;
+
+    @Column(name = "Profile_Image", length = 1000)
+    private String profileImage;
+
     // ... 그 외 Birth, Phone_Number, Position_ID 등 필요 시 매핑
     // 생략 가능
 
@@ -52,7 +63,8 @@ public class AuthUsersEntity {
 	 *	inverseJoinColumns = @JoinColumn(name = "role_id")
 	 *		- auth_users_roles 테이블에서 role_id가 auth_roles 테이블의 Role_ID를 참조함
      */
-    @ManyToMany(fetch = FetchType.EAGER)
+    // LAZY: 로그인 / 토큰 발급은 AuthUsersRepository.findCredentialsBy...(조인 프로젝션)로 롤을 읽음
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "auth_users_roles",
         joinColumns = @JoinColumn(name = "user_id"),  // auth_users_roles.user_id
@@ -0,0 +1,59 @@
+package com.example.oauth.entity.listener;
+
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.service.RoleCatalog;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 롤이 저장·수정·삭제되면 RoleCatalog에 해당 롤만 반영
+ * - 트랜잭션 안이면 커밋된 뒤에 반영 (롤백된 변경이 카탈로그에 남지 않도록)
+ *
+ * UserCacheInvalidationListener와 같은 이유로 ObjectProvider로 지연 조회
+ */
+@Component
+public class RoleCatalogListener {
+
+    private final ObjectProvider<RoleCatalog> roleCatalog;
+
+    public RoleCatalogListener(ObjectProvider<RoleCatalog> roleCatalog) {
+        this.roleCatalog = roleCatalog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(AuthRolesEntity role) {
+        RoleCatalog.Role snapshot = new RoleCatalog.Role(role.getRoleId(), role.getRoleName(), role.getServiceName());
+        afterCommit(catalog -> catalog.put(snapshot));
+    }
+
+    @PostRemove
+    public void onRemove(AuthRolesEntity role) {
+        Integer roleId = role.getRoleId();
+        afterCommit(catalog -> catalog.remove(roleId));
+    }
+
+    private void afterCommit(Consumer<RoleCatalog> change) {
+        RoleCatalog catalog = roleCatalog.getIfAvailable();
+        if (catalog == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.accept(catalog);
+                }
+            });
+        } else {
+            change.accept(catalog);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.oauth.entity.listener;
+
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.service.UserDetailsCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저/롤 엔티티가 저장·수정·삭제되면 UserDetailsCache 무효화
+ * - 유저 변경 : 해당 username 항목만 제거
+ * - 롤 변경   : 롤을 가진 유저를 알 수 없으므로 전체 제거
+ * - 트랜잭션 안이면 커밋된 뒤에 제거 (RoleCatalogListener와 같음)
+ * - 유저의 롤 연결(auth_users_roles)만 바뀌면 유저 엔티티 콜백이 불리지 않으므로 UserRolesChangeListener가 처리
+ *
+ * Hibernate가 SpringBeanContainer로 생성하므로 스프링 빈 주입 가능
+ * (EntityManagerFactory 생성 시점과의 순환 참조를 피하려고 ObjectProvider로 지연 조회)
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+    public UserCacheInvalidationListener(ObjectProvider<UserDetailsCache> userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        UserDetailsCache cache = userDetailsCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        if (entity instanceof AuthUsersEntity user) {
+            cache.removeUserAfterCommit(user.getUsername());
+        } else if (entity instanceof AuthRolesEntity) {
+            cache.removeAllAfterCommit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.oauth.entity.listener;
+
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.service.UserDetailsCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저의 롤 연결(AuthUsersEntity.roles, auth_users_roles)이 바뀌면 해당 유저만 UserDetailsCache에서 제거
+ * - @ManyToMany 컬렉션만 바뀌면 Hibernate가 유저 엔티티의 @PostUpdate를 부르지 않아서
+ *   JPA 콜백(UserCacheInvalidationListener) 대신 Hibernate 컬렉션 이벤트로 처리
+ * - 제거는 커밋된 뒤에 (UserDetailsCache.removeUserAfterCommit)
+ */
+@Component
+public class UserRolesChangeListener implements PostCollectionRecreateEventListener,
+        PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+    public UserRolesChangeListener(EntityManagerFactory entityManagerFactory,
+                                   ObjectProvider<UserDetailsCache> userDetailsCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onChange(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onChange(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onChange(event);
+    }
+
+    private void onChange(AbstractCollectionEvent event) {
+        UserDetailsCache cache = userDetailsCache.getIfAvailable();
+        if (cache != null && event.getAffectedOwnerOrNull() instanceof AuthUsersEntity user) {
+            cache.removeUserAfterCommit(user.getUsername());
+        }
+    }
+}
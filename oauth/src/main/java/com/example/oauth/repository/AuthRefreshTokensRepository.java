@@ -0,0 +1,39 @@
+package com.example.oauth.repository;
+
+import com.example.oauth.entity.AuthRefreshTokensEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소
+ */
+public interface AuthRefreshTokensRepository extends JpaRepository<AuthRefreshTokensEntity, Long> {
+
+    /**
+     * 토큰 해시로 조회 (유니크 인덱스)
+     * - user는 LAZY 프록시 그대로 (User_ID만 사용)
+     */
+    Optional<AuthRefreshTokensEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * 미사용 토큰만 사용 처리 (동시에 같은 토큰으로 두 번 요청해도 1건만 성공)
+     * @return 1이면 성공, 0이면 이미 사용/폐기된 토큰
+     */
+    @Modifying
+    @Query("update AuthRefreshTokensEntity t set t.usedAt = :usedAt "
+            + "where t.refreshTokenId = :id and t.usedAt is null and t.revoked = false")
+    int markUsed(@Param("id") Long id, @Param("usedAt") Instant usedAt);
+
+    @Modifying
+    @Query("update AuthRefreshTokensEntity t set t.revoked = true where t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from AuthRefreshTokensEntity t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,30 @@
+package com.example.oauth.repository;
+
+import com.example.oauth.entity.AuthRevokedTokensEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 폐기된 액세스 토큰 저장소
+ */
+public interface AuthRevokedTokensRepository extends JpaRepository<AuthRevokedTokensEntity, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    /**
+     * since 이후에 폐기되었고 아직 만료되지 않은 토큰 (증분 동기화용)
+     */
+    @Query("select t from AuthRevokedTokensEntity t where t.revokedAt >= :since and t.expiresAt > :now")
+    List<AuthRevokedTokensEntity> findActiveRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from AuthRevokedTokensEntity t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -3,6 +3,10 @@ package com.example.oauth.repository;
 import com.example.oauth.entity.AuthRolesEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface AuthRolesRepository extends JpaRepository<AuthRolesEntity, Integer> {
-	
+
+	// Role_Name 유니크 인덱스 조회 (평소에는 RoleCatalog 메모리 조회를 사용)
+	Optional<AuthRolesEntity> findByRoleName(String roleName);
 }
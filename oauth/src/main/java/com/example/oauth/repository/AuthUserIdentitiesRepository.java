@@ -0,0 +1,69 @@
+package com.example.oauth.repository;
+
+import com.example.oauth.dto.LinkedUser;
+import com.example.oauth.entity.AuthUserIdentitiesEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 소셜 계정 연결(auth_user_identities) 조회 / 생성
+ */
+public interface AuthUserIdentitiesRepository
+        extends JpaRepository<AuthUserIdentitiesEntity, AuthUserIdentitiesEntity.Key> {
+
+    /**
+     * (Provider, Provider_User_ID) PK 조회 + 유저 / 롤 조인 1번
+     */
+    default Optional<LinkedUser> findLinkedUser(String provider, String providerUserId) {
+        return LinkedUser.fromRows(findLinkedUserRows(provider, providerUserId));
+    }
+
+    // (userId, username, password, roleName, nickname, profileImage) 행, 롤 개수만큼 반환
+    @Query("select u.userId, u.username, u.password, r.roleName, u.nickname, u.profileImage "
+            + "from AuthUserIdentitiesEntity i join i.user u left join u.roles r "
+            + "where i.provider = :provider and i.providerUserId = :providerUserId")
+    List<Object[]> findLinkedUserRows(@Param("provider") String provider,
+                                      @Param("providerUserId") String providerUserId);
+
+    /**
+     * 유저 + 소셜 계정 연결을 한 문장으로 생성 (PostgreSQL 전용)
+     * - linkByEmail(Provider가 인증한 이메일)이면 같은 Email 유저가 이미 있을 때 새로 만들지 않고 그 유저에 연결
+     *   → DO UPDATE가 없으면 충돌 시 RETURNING이 비어서 연결을 못 하므로 같은 값으로 UPDATE
+     * - linkByEmail이 false면 DO UPDATE의 WHERE가 거짓이라 RETURNING이 비고 연결하지 않음
+     *   (인증되지 않은 이메일로 로컬 비밀번호 계정 등 남의 계정을 가져가지 못하도록)
+     * - 예외: 연결 테이블 이전에 같은 소셜 계정으로 가입한 유저 (Email이 대체값 provider + "User_" + ID이고
+     *   Password가 같은 소셜 자리값) → 그 Provider 계정만 만들 수 있는 행이므로 인증 여부와 관계없이 연결
+     * - 같은 소셜 계정 콜백이 동시에 와도 유니크 위반 없이 둘 다 성공 (나중 쪽은 DO NOTHING)
+     * - nextval은 Hibernate pooled 옵티마이저와 같은 시퀀스를 쓰므로 ID가 겹치지 않음
+     *   (대신 가입 1건마다 allocationSize만큼 번호를 건너뜀)
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            WITH linked_user AS (
+                INSERT INTO auth_users (User_ID, Email, Password, Nickname, Profile_Image)
+                VALUES (nextval('auth_users_seq'), :email, :password, :nickname, :profileImage)
+                ON CONFLICT (Email) DO UPDATE SET Email = EXCLUDED.Email
+                WHERE :linkByEmail
+                   OR (auth_users.Password = EXCLUDED.Password
+                       AND EXCLUDED.Email = CONCAT(:provider, 'User_', :providerUserId))
+                RETURNING User_ID
+            )
+            INSERT INTO auth_user_identities (Provider, Provider_User_ID, User_ID)
+            SELECT :provider, :providerUserId, User_ID FROM linked_user
+            ON CONFLICT (Provider, Provider_User_ID) DO NOTHING
+            """)
+    int upsert(@Param("provider") String provider,
+               @Param("providerUserId") String providerUserId,
+               @Param("email") String email,
+               @Param("linkByEmail") boolean linkByEmail,
+               @Param("password") String password,
+               @Param("nickname") String nickname,
+               @Param("profileImage") String profileImage);
+}
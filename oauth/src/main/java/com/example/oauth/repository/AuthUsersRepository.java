@@ -1,12 +1,67 @@
 package com.example.oauth.repository;
 
+import com.example.oauth.dto.AuthUserCredentials;
 import com.example.oauth.entity.AuthUsersEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 유저 정보를 DB에서 조회하기 위한 JpaRepository
  */
 public interface AuthUsersRepository extends JpaRepository<AuthUsersEntity, Integer> {
     Optional<AuthUsersEntity> findByUsername(String username);
+
+    /**
+     * 로그인 / 토큰 발급용 읽기 전용 조회 (auth_users + auth_users_roles + auth_roles 조인 1번)
+     * - 엔티티 대신 AuthUserCredentials를 반환하므로 영속성 컨텍스트를 거치지 않음
+     */
+    default Optional<AuthUserCredentials> findCredentialsByUsername(String username) {
+        return AuthUserCredentials.fromRows(findCredentialRowsByUsername(username));
+    }
+
+    default Optional<AuthUserCredentials> findCredentialsById(Integer userId) {
+        return AuthUserCredentials.fromRows(findCredentialRowsById(userId));
+    }
+
+    // (userId, username, password, roleName) 행, 롤 개수만큼 반환
+    @Query("select u.userId, u.username, u.password, r.roleName "
+            + "from AuthUsersEntity u left join u.roles r where u.username = :username")
+    List<Object[]> findCredentialRowsByUsername(@Param("username") String username);
+
+    @Query("select u.userId, u.username, u.password, r.roleName "
+            + "from AuthUsersEntity u left join u.roles r where u.userId = :userId")
+    List<Object[]> findCredentialRowsById(@Param("userId") Integer userId);
+
+    /**
+     * 주어진 username 중 이미 가입된 것 (대량 가입 시 청크마다 1번)
+     */
+    @Query("select u.username from AuthUsersEntity u where u.username in :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * 비밀번호 해시만 갱신 (로그인 성공 시 해시 업그레이드 용도)
+     * - 벌크 업데이트라 엔티티 리스너가 동작하지 않으므로 캐시 무효화는 호출 측에서 처리
+     */
+    @Modifying
+    @Transactional
+    @Query("update AuthUsersEntity u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
+    /**
+     * 소셜 프로필만 갱신 (바뀌었을 때만 호출, 프로필은 UserDetails 캐시에 없어서 무효화 불필요)
+     */
+    @Modifying
+    @Transactional
+    @Query("update AuthUsersEntity u set u.nickname = :nickname, u.profileImage = :profileImage where u.userId = :userId")
+    int updateProfile(@Param("userId") Integer userId,
+                      @Param("nickname") String nickname,
+                      @Param("profileImage") String profileImage);
 }
@@ -0,0 +1,37 @@
+package com.example.oauth.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.Serial;
+import java.util.Collection;
+
+/**
+ * CustomUserDetailsService가 반환하는 UserDetails
+ * - 스프링 시큐리티 User + DB의 User_ID
+ * - 로그인 후 리프레시 토큰 발급 등 유저 PK가 필요할 때 DB를 다시 조회하지 않기 위함
+ */
+public class AuthUserDetails extends User {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Integer userId;
+
+    public AuthUserDetails(Integer userId, String username, String password,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    /**
+     * 비밀번호만 바꾼 복사본
+     */
+    public AuthUserDetails withPassword(String password) {
+        return new AuthUserDetails(userId, getUsername(), password, getAuthorities());
+    }
+}
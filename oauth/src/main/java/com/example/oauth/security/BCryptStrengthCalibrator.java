@@ -0,0 +1,52 @@
+package com.example.oauth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 서버 성능 기준으로 BCrypt strength(work factor) 결정
+ * - 최소값부터 1씩 올리며 실제 해시 시간을 재고, 목표 지연 시간을 넘지 않는 가장 큰 값을 선택
+ * - strength가 1 오를 때마다 계산량이 2배라서 측정 비용은 대략 목표 시간의 2배 이내
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * @param target      목표 해시(=검증) 시간
+     * @param minStrength 보안상 최소 strength (측정값이 더 빨라도 이 값 아래로는 내려가지 않음)
+     * @param maxStrength 최대 strength
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        long targetNanos = target.toNanos();
+
+        // JIT 워밍업 (첫 측정이 튀지 않도록)
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        int selected = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsed = measure(strength);
+            log.debug("BCrypt strength {} took {} ms", strength, elapsed / 1_000_000);
+            if (elapsed > targetNanos) {
+                break;
+            }
+            selected = strength;
+        }
+
+        log.info("BCrypt strength calibrated to {} (target {} ms)", selected, target.toMillis());
+        return selected;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.oauth.security;
+
+import com.example.oauth.service.AuthMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀에서 encode / matches를 실행하는 PasswordEncoder
+ * - 해시 계산은 고정 크기 풀(threads)에서만 돌기 때문에 CPU를 다 쓰더라도 Tomcat 스레드 전체를 잡아먹지 않음
+ * - 대기 큐(queueCapacity)가 가득 차면 바로 PasswordHashingRejectedException (→ 503 + Retry-After)
+ * - 큐 길이 / 해시 소요 시간 / 거절 횟수를 getter로 노출
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final AuthMetrics metrics;
+
+    // 지표
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanosTotal = new LongAdder();
+    private final LongAccumulator hashNanosMax = new LongAccumulator(Long::max, 0);
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this(delegate, threads, queueCapacity, timeout, AuthMetrics.noop());
+    }
+
+    /**
+     * @param metrics 해시 계산 시간(auth.password.hash) / 거절 수 기록
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout,
+                                  AuthMetrics metrics) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new PasswordHashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit("match", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 계산 없이 prefix / cost만 보는 가벼운 작업이라 호출 스레드에서 바로 처리
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(String operation, Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    hashCount.increment();
+                    hashNanosTotal.add(elapsed);
+                    hashNanosMax.accumulate(elapsed);
+                    metrics.passwordHashed(operation, elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            metrics.passwordHashRejected("queue_full");
+            throw new PasswordHashingRejectedException("Password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            metrics.passwordHashRejected("timeout");
+            throw new PasswordHashingRejectedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 전용 풀을 거치지 않는 원본 인코더
+     * - 대량 가입처럼 자체 풀에서 해시하는 작업이 로그인용 큐를 차지하지 않도록 사용
+     */
+    public PasswordEncoder getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 대기 중인 해시 작업 수
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 현재 해시 계산 중인 작업 수
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    /**
+     * 해시 1회 평균 소요 시간 (ms)
+     */
+    public double getAverageHashMillis() {
+        long count = hashCount.sum();
+        return count == 0 ? 0 : hashNanosTotal.sum() / (double) count / 1_000_000;
+    }
+
+    /**
+     * 해시 1회 최대 소요 시간 (ms)
+     */
+    public double getMaxHashMillis() {
+        return hashNanosMax.get() / 1_000_000.0;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class PasswordHashThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
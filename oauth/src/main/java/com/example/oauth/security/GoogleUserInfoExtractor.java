@@ -0,0 +1,39 @@
+package com.example.oauth.security;
+
+import com.example.oauth.dto.OAuth2UserInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.example.oauth.security.OAuth2UserInfoExtractor.fallbackEmail;
+import static com.example.oauth.security.OAuth2UserInfoExtractor.isTrue;
+import static com.example.oauth.security.OAuth2UserInfoExtractor.string;
+
+/**
+ * 구글 사용자 정보 → OAuth2UserInfo
+ * - {sub=1175547227..., email=xxxxx@gmail.com, email_verified=true, name=..., picture=...}
+ * - sub는 구글 계정마다 변하지 않는 고유 ID
+ * - email_verified가 아니면 남의 이메일일 수 있으므로 "googleUser_{sub}"를 대신 사용
+ */
+@Component
+public class GoogleUserInfoExtractor implements OAuth2UserInfoExtractor {
+
+    @Override
+    public String registrationId() {
+        return "google";
+    }
+
+    @Override
+    public OAuth2UserInfo extract(Map<String, Object> attributes) {
+        String sub = string(attributes, "sub");
+        String email = string(attributes, "email");
+        boolean verified = email != null && isTrue(attributes, "email_verified");
+
+        return new OAuth2UserInfo("google",
+                sub,
+                verified ? email : fallbackEmail("google", sub),
+                verified,
+                string(attributes, "name"),
+                string(attributes, "picture"));
+    }
+}
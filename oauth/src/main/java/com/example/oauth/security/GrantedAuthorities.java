@@ -0,0 +1,38 @@
+package com.example.oauth.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 역할명 → SimpleGrantedAuthority 공유 인스턴스
+ * - 역할 종류는 몇 개 안 되므로 유저/요청마다 새로 만들지 않고 같은 객체를 재사용
+ */
+public final class GrantedAuthorities {
+
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private GrantedAuthorities() {
+    }
+
+    /**
+     * 역할명에 해당하는 공유 GrantedAuthority (e.g. "ROLE_USER")
+     */
+    public static GrantedAuthority of(String roleName) {
+        GrantedAuthority authority = AUTHORITIES.get(roleName);
+        return authority != null ? authority : AUTHORITIES.computeIfAbsent(roleName, SimpleGrantedAuthority::new);
+    }
+
+    /**
+     * 역할명 목록 → 공유 GrantedAuthority 목록 (수정 불가)
+     */
+    public static List<GrantedAuthority> of(Collection<String> roleNames) {
+        return roleNames.stream()
+                .map(GrantedAuthorities::of)
+                .toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.oauth.security;
+
+import com.example.oauth.dto.VerifiedToken;
+import com.example.oauth.service.JwtService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization: Bearer <JWT> 헤더로 인증하는 필터
+ * - 토큰의 sub / roles 클레임만으로 Authentication을 만든다 (CustomUserDetailsService / DB 조회 없음)
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘김 → 보호된 경로라면 이후 단계에서 거부됨
+ *
+ * 서블릿 필터로 중복 등록되지 않도록 @Component 없이 SecurityConfig에서 직접 생성
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String token = resolveToken(request);
+        if (token != null) {
+            try {
+                VerifiedToken verified = jwtService.verify(token);
+
+                List<GrantedAuthority> authorities = GrantedAuthorities.of(verified.getRoles());
+
+                UsernamePasswordAuthenticationToken authentication =
+                        UsernamePasswordAuthenticationToken.authenticated(verified.getSubject(), null, authorities);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            } catch (JwtException | IllegalArgumentException e) {
+                // 잘못된 토큰은 인증하지 않고 통과 (익명 사용자로 처리)
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Authorization: Bearer 헤더에서 토큰 꺼내기 (없으면 null)
+     */
+    public static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        return null;
+    }
+}
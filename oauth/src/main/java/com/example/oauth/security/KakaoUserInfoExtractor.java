@@ -0,0 +1,42 @@
+package com.example.oauth.security;
+
+import com.example.oauth.dto.OAuth2UserInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.example.oauth.security.OAuth2UserInfoExtractor.fallbackEmail;
+import static com.example.oauth.security.OAuth2UserInfoExtractor.isTrue;
+import static com.example.oauth.security.OAuth2UserInfoExtractor.string;
+
+/**
+ * 카카오 사용자 정보 → OAuth2UserInfo
+ * - {id=1234567890, kakao_account={..., email=..., is_email_verified=true}, properties={nickname=..., profile_image=...}}
+ * - email은 사용자가 동의한 경우만 내려오고 인증되지 않았을 수도 있으므로
+ *   동의 + 인증된 경우가 아니면 "kakaoUser_{id}"를 대신 사용
+ */
+@Component
+public class KakaoUserInfoExtractor implements OAuth2UserInfoExtractor {
+
+    @Override
+    public String registrationId() {
+        return "kakao";
+    }
+
+    @Override
+    public OAuth2UserInfo extract(Map<String, Object> attributes) {
+        // 카카오 고유 id (Long형이라 문자열로 변환)
+        String kakaoId = String.valueOf(attributes.get("id"));
+        Object account = attributes.get("kakao_account");
+        String email = string(account, "email");
+        boolean verified = email != null && isTrue(account, "is_email_verified");
+        Object properties = attributes.get("properties");
+
+        return new OAuth2UserInfo("kakao",
+                kakaoId,
+                verified ? email : fallbackEmail("kakao", kakaoId),
+                verified,
+                string(properties, "nickname"),
+                string(properties, "profile_image"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.oauth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
+import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 해시 풀 거절(PasswordHashingRejectedException)을 캐시 재시도 없이 바로 던지는 DaoAuthenticationProvider
+ * - 기본 구현은 캐시된 유저로 비밀번호 확인 중 AuthenticationException이 나면
+ *   DB에서 유저를 다시 읽고 matches를 한 번 더 호출함
+ * - 과부하로 거절된 경우 그 재시도는 DB 조회 + 해시 재제출(최대 timeout 2배 대기)만 늘리므로 건너뜀
+ * - 비밀번호 확인이 끝난 뒤 약한 해시 재해시(upgradeEncoding → encode)가 거절되면
+ *   503 대신 이번에는 재해시 없이 로그인 성공 (다음 로그인에서 다시 시도)
+ */
+@Slf4j
+public class LoadSheddingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    // 상위 클래스 필드가 private이라 재해시를 건너뛸 때 쓰려고 따로 보관
+    private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return super.authenticate(authentication);
+        } catch (HashingRejected e) {
+            throw e.rejection;
+        }
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        try {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+        } catch (PasswordHashingRejectedException e) {
+            // AuthenticationException이 아닌 예외로 감싸서 상위 클래스의 캐시 재시도 catch를 통과
+            throw new HashingRejected(e);
+        }
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+        try {
+            return super.createSuccessAuthentication(principal, authentication, user);
+        } catch (PasswordHashingRejectedException e) {
+            // 재해시는 부가 작업이라 과부하 시에는 건너뜀 (비밀번호는 이미 확인됨)
+            log.debug("Skipping password upgrade for {}: {}", user.getUsername(), e.getMessage());
+            UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                    principal, authentication.getCredentials(),
+                    authoritiesMapper.mapAuthorities(user.getAuthorities()));
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+    }
+
+    @Override
+    public void setAuthoritiesMapper(GrantedAuthoritiesMapper authoritiesMapper) {
+        super.setAuthoritiesMapper(authoritiesMapper);
+        this.authoritiesMapper = authoritiesMapper;
+    }
+
+    private static final class HashingRejected extends RuntimeException {
+
+        private final PasswordHashingRejectedException rejection;
+
+        HashingRejected(PasswordHashingRejectedException rejection) {
+            super(rejection.getMessage(), rejection, false, false);
+            this.rejection = rejection;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.oauth.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 Provider 호출(토큰 / 사용자 정보) 지연 시간 기록
+ * - 지표: auth.oauth2.client.requests (태그: endpoint, host, status)
+ * - 응답 본문까지 포함하려면 BufferingClientHttpRequestFactory와 함께 사용 (OAuth2ClientHttpConfig)
+ */
+public class OAuth2ClientTimingInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String METRIC_NAME = "auth.oauth2.client.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final String endpoint;
+
+    /**
+     * @param endpoint 지표 태그 (token / user-info)
+     */
+    public OAuth2ClientTimingInterceptor(MeterRegistry meterRegistry, String endpoint) {
+        this.meterRegistry = meterRegistry;
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .description("OAuth2 provider call latency")
+                    .tag("endpoint", endpoint)
+                    .tag("host", String.valueOf(request.getURI().getHost()))
+                    .tag("status", status)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.oauth.security;
+
+import com.example.oauth.dto.OAuth2UserInfo;
+
+import java.util.Map;
+
+/**
+ * Provider 사용자 정보 응답(attributes) → OAuth2UserInfo 변환
+ * - Provider 하나당 구현 1개를 빈으로 등록하면 OAuth2UserInfoExtractors에 자동으로 추가됨
+ *   (컨트롤러 수정 없이 Provider 추가 가능)
+ */
+public interface OAuth2UserInfoExtractor {
+
+    /**
+     * 담당하는 registrationId (spring.security.oauth2.client.registration.{id})
+     */
+    String registrationId();
+
+    OAuth2UserInfo extract(Map<String, Object> attributes);
+
+    /**
+     * 중첩 Map에서 문자열 값 꺼내기 (Map이 아니거나 값이 없으면 null, 캐스팅 경고 없음)
+     */
+    static String string(Object map, String key) {
+        if (map instanceof Map<?, ?> values) {
+            Object value = values.get(key);
+            return value != null ? String.valueOf(value) : null;
+        }
+        return null;
+    }
+
+    /**
+     * 중첩 Map에서 true / "true" 값인지 (없거나 다른 값이면 false)
+     */
+    static boolean isTrue(Object map, String key) {
+        return Boolean.parseBoolean(string(map, key));
+    }
+
+    /**
+     * 인증된 이메일이 없을 때 auth_users.Email 대체값 (다른 계정과 연결되지 않도록 Provider별로 구분)
+     */
+    static String fallbackEmail(String provider, String providerUserId) {
+        return provider + "User_" + providerUserId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.oauth.security;
+
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * registrationId → OAuth2UserInfoExtractor 레지스트리
+ * - 시작 시 등록된 추출기 빈으로 한 번만 만들고 이후엔 Map 조회만 함
+ */
+@Component
+public class OAuth2UserInfoExtractors {
+
+    private final Map<String, OAuth2UserInfoExtractor> extractors;
+
+    public OAuth2UserInfoExtractors(List<OAuth2UserInfoExtractor> extractors) {
+        // registrationId가 겹치면 시작 시 IllegalStateException
+        this.extractors = Map.copyOf(extractors.stream()
+                .collect(Collectors.toMap(OAuth2UserInfoExtractor::registrationId, Function.identity())));
+    }
+
+    /**
+     * @throws OAuth2AuthenticationException 추출기가 없는 Provider (로그인 실패로 처리됨)
+     */
+    public OAuth2UserInfoExtractor get(String registrationId) {
+        OAuth2UserInfoExtractor extractor = extractors.get(registrationId);
+        if (extractor == null) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("unsupported_provider",
+                    "알 수 없는 소셜 로그인입니다. provider=" + registrationId, null));
+        }
+        return extractor;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.oauth.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 작업 큐가 가득 찼거나 대기 시간을 넘겨서 처리를 거절했을 때 발생
+ * - 비밀번호가 틀린 것이 아니라 서버가 바쁜 상태 → 503 + Retry-After로 응답
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String msg) {
+        super(msg);
+    }
+
+    public PasswordHashingRejectedException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.oauth.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 리프레시 토큰 쿠키 (HttpOnly, /auth 경로에만 전송)
+ * - 스크립트에서 읽을 수 없고, 재발급(/auth/refresh) / 로그아웃(/auth/logout) 요청에만 실림
+ */
+public final class RefreshTokenCookies {
+
+    public static final String COOKIE_NAME = "refresh_token";
+    private static final String COOKIE_PATH = "/auth";
+
+    private RefreshTokenCookies() {
+    }
+
+    public static void set(HttpServletRequest request, HttpServletResponse response, String refreshToken, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, refreshToken)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Strict")
+                .path(COOKIE_PATH)
+                .maxAge(maxAgeSeconds)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    public static void clear(HttpServletResponse response) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, "")
+                .httpOnly(true)
+                .sameSite("Strict")
+                .path(COOKIE_PATH)
+                .maxAge(0)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * 요청 쿠키에서 리프레시 토큰 꺼내기 (없으면 null)
+     */
+    public static String read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName()) && !cookie.getValue().isBlank()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
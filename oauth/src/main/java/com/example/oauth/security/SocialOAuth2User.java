@@ -0,0 +1,41 @@
+package com.example.oauth.security;
+
+import com.example.oauth.dto.OAuth2UserInfo;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * SocialOAuth2UserService가 반환하는 principal
+ * - Provider 원본 사용자 정보 + 로그인 시 한 번 추출해 둔 OAuth2UserInfo
+ */
+public class SocialOAuth2User implements OAuth2User, Serializable {
+
+    private final OAuth2User delegate;
+    @Getter
+    private final OAuth2UserInfo userInfo;
+
+    public SocialOAuth2User(OAuth2User delegate, OAuth2UserInfo userInfo) {
+        this.delegate = delegate;
+        this.userInfo = userInfo;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return delegate.getAuthorities();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
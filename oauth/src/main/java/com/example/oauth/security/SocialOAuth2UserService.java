@@ -0,0 +1,73 @@
+package com.example.oauth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 소셜 사용자 정보 조회 후 OAuth2UserInfo까지 추출해 principal에 담음
+ * - 성공 콜백(/auth/oauth2/success)은 Provider 분기 없이 SocialOAuth2User.getUserInfo()만 읽음
+ * - user-info-uri 호출은 커넥션 풀 RestTemplate(OAuth2ClientHttpConfig)로 보냄
+ * - auth.oauth2.user-info-cache.ttl을 켜면 같은 액세스 토큰으로 다시 조회할 때 캐시 결과 반환 (키는 토큰 SHA-256)
+ *   로그인마다 새 액세스 토큰을 받으므로 보통은 적중하지 않고 프로필(개인정보)만 메모리에 남아서 기본은 끔
+ */
+@Component
+public class SocialOAuth2UserService extends DefaultOAuth2UserService {
+
+    private final OAuth2UserInfoExtractors extractors;
+    // ttl=0이면 null (캐시하지 않음)
+    private final Cache<String, OAuth2User> userInfoCache;
+
+    public SocialOAuth2UserService(OAuth2UserInfoExtractors extractors,
+                                   @Qualifier("oauth2UserInfoRestOperations") RestOperations restOperations,
+                                   @Value("${auth.oauth2.user-info-cache.ttl:0s}") Duration cacheTtl,
+                                   @Value("${auth.oauth2.user-info-cache.max-size:10000}") long cacheMaxSize) {
+        this.extractors = extractors;
+        setRestOperations(restOperations);
+        this.userInfoCache = cacheTtl.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @Override
+    public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+        String registrationId = userRequest.getClientRegistration().getRegistrationId();
+        // 지원하지 않는 Provider는 사용자 정보를 조회하기 전에 실패
+        OAuth2UserInfoExtractor extractor = extractors.get(registrationId);
+
+        if (userInfoCache == null) {
+            return load(userRequest, extractor);
+        }
+        String cacheKey = digest(registrationId + ":" + userRequest.getAccessToken().getTokenValue());
+        return userInfoCache.get(cacheKey, key -> load(userRequest, extractor));
+    }
+
+    private OAuth2User load(OAuth2UserRequest userRequest, OAuth2UserInfoExtractor extractor) {
+        OAuth2User user = super.loadUser(userRequest);
+        return new SocialOAuth2User(user, extractor.extract(user.getAttributes()));
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
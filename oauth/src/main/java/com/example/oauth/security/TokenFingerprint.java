@@ -0,0 +1,44 @@
+package com.example.oauth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 로그용 토큰 지문 (원문 대신 SHA-256 앞 12자)
+ * - 토큰을 그대로 로그에 남기면 로그를 읽을 수 있는 누구나 토큰을 재사용할 수 있음
+ * - 생성 시 바로 해시해서 지문 문자열만 보관 → 로그 이벤트 인자(argumentArray)나
+ *   AsyncAppender 큐에 토큰 원문이 남지 않음
+ *   (AsyncAppender는 어차피 호출 스레드에서 메시지를 만들므로 해시를 미뤄도 얻는 게 없음)
+ */
+public final class TokenFingerprint {
+
+    private static final int LENGTH = 12;
+
+    private final String fingerprint;
+
+    private TokenFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public static TokenFingerprint of(String token) {
+        return new TokenFingerprint(token == null ? "-" : hash(token));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 기본 제공
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return fingerprint;
+    }
+}
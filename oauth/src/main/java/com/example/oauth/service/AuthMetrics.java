@@ -0,0 +1,173 @@
+package com.example.oauth.service;
+
+import com.example.oauth.security.BoundedPasswordEncoder;
+import com.example.oauth.security.PasswordHashingRejectedException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.security.authentication.AccountExpiredException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 관련 지표 (Micrometer, /actuator/prometheus)
+ * - auth.login            로그인 지연 시간 (method: password / form / oauth2, provider, outcome)
+ * - auth.login.failures   로그인 실패 수 (method, provider, reason)
+ * - auth.jwt.sign         토큰 서명 지연 시간
+ * - auth.jwt.verify       토큰 검증 지연 시간 (outcome: success / expired / bad_signature / malformed / revoked / invalid)
+ * - auth.user.lookup      로그인 유저 DB 조회 지연 시간 (outcome: found / not_found)
+ * - auth.password.hash    BCrypt 계산 시간, 대기 제외 (operation: encode / match)
+ * - auth.password.hash.rejected  해시 큐 거절 수 (reason: queue_full / timeout)
+ * - auth.password.hash.queue / .active  해시 대기 / 계산 중인 작업 수
+ * - p50 / p99 / p999 및 히스토그램 버킷은 management.metrics.distribution.*.auth 설정으로 켬
+ * - 태그 값은 모두 정해진 집합 (username / 토큰 / 요청 파라미터는 태그로 쓰지 않음)
+ */
+@Component
+public class AuthMetrics {
+
+    // 요청 파라미터(error=...)로 들어오는 값도 있어서 알려진 코드만 태그로 사용
+    private static final Set<String> OAUTH2_ERROR_CODES = Set.of(
+            "access_denied", "invalid_request", "unauthorized_client", "unsupported_response_type",
+            "invalid_scope", "server_error", "temporarily_unavailable", "invalid_grant",
+            "authorization_request_not_found", "client_registration_not_found", "invalid_state_parameter",
+            "invalid_token_response", "invalid_user_info_response",
+            "missing_user_info_uri", "missing_user_name_attribute");
+
+    private final MeterRegistry registry;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 아무 것도 기록하지 않는 인스턴스 (테스트 / 벤치마크용)
+     */
+    public static AuthMetrics noop() {
+        return new AuthMetrics(new CompositeMeterRegistry());
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void loginSucceeded(Timer.Sample sample, String method, String provider) {
+        sample.stop(loginTimer(method, provider, "success"));
+    }
+
+    public void loginFailed(Timer.Sample sample, String method, String provider, String reason) {
+        sample.stop(loginTimer(method, provider, "failure"));
+        loginFailed(method, provider, reason);
+    }
+
+    /**
+     * 지연 시간 없이 실패 수만 기록 (OAuth2 실패는 필터 체인에서 끝나서 시작 시각이 없음)
+     */
+    public void loginFailed(String method, String provider, String reason) {
+        Counter.builder("auth.login.failures")
+                .tag("method", method)
+                .tag("provider", provider)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public void tokenSigned(Timer.Sample sample) {
+        sample.stop(Timer.builder("auth.jwt.sign").register(registry));
+    }
+
+    public void tokenVerified(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("auth.jwt.verify").tag("outcome", outcome).register(registry));
+    }
+
+    public void userLookedUp(Timer.Sample sample, boolean found) {
+        sample.stop(Timer.builder("auth.user.lookup").tag("outcome", found ? "found" : "not_found").register(registry));
+    }
+
+    public void passwordHashed(String operation, long nanos) {
+        Timer.builder("auth.password.hash").tag("operation", operation).register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void passwordHashRejected(String reason) {
+        Counter.builder("auth.password.hash.rejected").tag("reason", reason).register(registry).increment();
+    }
+
+    /**
+     * 비밀번호 해시 전용 풀 상태 (조회 시점에 읽는 게이지)
+     */
+    public void bindPasswordHashPool(BoundedPasswordEncoder encoder) {
+        Gauge.builder("auth.password.hash.queue", encoder, BoundedPasswordEncoder::getQueueDepth).register(registry);
+        Gauge.builder("auth.password.hash.active", encoder, BoundedPasswordEncoder::getActiveCount).register(registry);
+    }
+
+    private Timer loginTimer(String method, String provider, String outcome) {
+        return Timer.builder("auth.login")
+                .tag("method", method)
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * JwtService.verify 예외 → outcome 태그
+     */
+    public static String verifyFailureReason(RuntimeException e) {
+        if (e instanceof ExpiredJwtException) {
+            return "expired";
+        }
+        if (e instanceof RevokedJwtException) {
+            return "revoked";
+        }
+        if (e instanceof io.jsonwebtoken.security.SecurityException) {
+            return "bad_signature";
+        }
+        if (e instanceof MalformedJwtException || e instanceof UnsupportedJwtException
+                || e instanceof IllegalArgumentException) {
+            return "malformed";
+        }
+        return "invalid";
+    }
+
+    /**
+     * 로그인 예외 → reason 태그
+     * - 없는 유저도 DaoAuthenticationProvider가 BadCredentialsException으로 바꾸므로 bad_password에 포함
+     */
+    public static String loginFailureReason(AuthenticationException e) {
+        if (e instanceof OAuth2AuthenticationException oauth2) {
+            String errorCode = oauth2.getError().getErrorCode();
+            if ("unsupported_provider".equals(errorCode)) {
+                return "unknown_provider";
+            }
+            return OAUTH2_ERROR_CODES.contains(errorCode) ? errorCode : "other";
+        }
+        if (e instanceof BadCredentialsException) {
+            return "bad_password";
+        }
+        if (e instanceof PasswordHashingRejectedException) {
+            return "overloaded";
+        }
+        if (e instanceof LockedException) {
+            return "locked";
+        }
+        if (e instanceof DisabledException) {
+            return "disabled";
+        }
+        if (e instanceof AccountExpiredException || e instanceof CredentialsExpiredException) {
+            return "expired";
+        }
+        return "error";
+    }
+}
@@ -1,43 +1,76 @@
 package com.example.oauth.service;
 
-import com.example.oauth.entity.AuthRolesEntity;
-import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.dto.AuthUserCredentials;
 import com.example.oauth.repository.AuthUsersRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.oauth.security.AuthUserDetails;
+import com.example.oauth.security.GrantedAuthorities;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AuthUsersRepository authUsersRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final AuthMetrics metrics;
+
+    @Autowired
+    public CustomUserDetailsService(AuthUsersRepository authUsersRepository,
+                                    UserDetailsCache userDetailsCache,
+                                    AuthMetrics metrics) {
+        this.authUsersRepository = authUsersRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 지표 없이 생성 (테스트 / 벤치마크용)
+     */
+    public CustomUserDetailsService(AuthUsersRepository authUsersRepository, UserDetailsCache userDetailsCache) {
+        this(authUsersRepository, userDetailsCache, AuthMetrics.noop());
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Optional<AuthUsersEntity> optionalUser = authUsersRepository.findByUsername(username);
-        AuthUsersEntity userEntity = optionalUser
+        // 1) 유저 + Role_Name을 조인 쿼리 1번으로 조회 (엔티티 / 롤 컬렉션 로딩 없음)
+        //    유저 캐시에 없을 때만 호출되므로 auth.user.lookup은 DB 조회 시간
+        Timer.Sample sample = metrics.start();
+        Optional<AuthUserCredentials> found = authUsersRepository.findCredentialsByUsername(username);
+        metrics.userLookedUp(sample, found.isPresent());
+        AuthUserCredentials credentials = found
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        // 1) 유저가 가진 Roles 가져오기
-        Set<AuthRolesEntity> roles = userEntity.getRoles();
+        // 2) 스프링 시큐리티용 Authority 리스트로 변환 (역할별 공유 인스턴스 사용)
+        List<GrantedAuthority> authorities = GrantedAuthorities.of(credentials.roleNames()); // e.g. "ROLE_USER"
 
-        // 2) 스프링 시큐리티용 Authority 리스트로 변환
-        Set<GrantedAuthority> authorities = roles.stream()
-                .map(r -> new SimpleGrantedAuthority(r.getRoleName())) // e.g. "ROLE_USER"
-                .collect(Collectors.toSet());
+        // 3) UserDetails 객체 생성 (User_ID 포함 → 로그인 후 리프레시 토큰 발급 시 재조회 불필요)
+        return new AuthUserDetails(
+                credentials.userId(),
+                credentials.username(),
+                credentials.password(),
+                authorities); // 여러 권한 주입
+    }
+
+    /**
+     * 로그인 성공 시 저장된 해시가 현재 설정보다 약하면(strength 낮음 / {id} 없음) 새 해시로 교체
+     * - DaoAuthenticationProvider가 방금 검증한 평문 비밀번호로 다시 해시해서 호출
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        authUsersRepository.updatePassword(user.getUsername(), newPassword);
+        userDetailsCache.removeUserFromCache(user.getUsername());
 
-        // 3) UserDetails 객체 생성
-        return User.builder()
-                .username(userEntity.getUsername())
-                .password(userEntity.getPassword())
-                .authorities(authorities) // 여러 권한 주입
+        if (user instanceof AuthUserDetails authUser) {
+            return authUser.withPassword(newPassword);
+        }
+        return User.withUserDetails(user)
+                .password(newPassword)
                 .build();
     }
 }
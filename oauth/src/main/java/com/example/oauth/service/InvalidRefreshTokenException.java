@@ -0,0 +1,11 @@
+package com.example.oauth.service;
+
+/**
+ * 리프레시 토큰이 없거나 만료/폐기/재사용된 경우 (→ 401)
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.oauth.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * jwt.signing.keys-file 변경 감시 → 재시작 없이 키 링 교체
+ * - WatchService로 파일이 있는 디렉토리를 감시하다가 디렉토리에 변경이 생기면 파일 내용을 다시 읽어
+ *   마지막으로 읽은 내용과 다를 때만 JwtKeyManager.reload()
+ * - 파일 이름으로 이벤트를 거르지 않음: Kubernetes Secret / ConfigMap 마운트는 ..data 심볼릭 링크를
+ *   원자적으로 바꿔치기해서 키 파일 이름으로는 이벤트가 오지 않음
+ * - 파일이 잘못된 경우 로그만 남기고 기존 키 링을 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.signing.keys-file")
+public class JwtKeyFileWatcher {
+
+    private final JwtKeyManager keyManager;
+
+    @Value("${jwt.signing.keys-file}")
+    private Path keysFile;
+
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    // 마지막으로 읽은 파일 내용의 SHA-256 (감시 스레드에서만 사용)
+    private byte[] loadedDigest;
+
+    @PostConstruct
+    public void start() throws IOException {
+        loadedDigest = digest();
+        Path directory = keysFile.toAbsolutePath().getParent();
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watcherThread = new Thread(this::watch, "jwt-key-file-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("Watching JWT key file {}", keysFile.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey watchKey;
+            try {
+                watchKey = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            // 이벤트 종류 / 이름과 관계없이 (OVERFLOW 포함) 내용으로 판단
+            watchKey.pollEvents();
+            watchKey.reset();
+
+            reloadIfChanged();
+        }
+    }
+
+    private void reloadIfChanged() {
+        try {
+            byte[] digest = digest();
+            if (Arrays.equals(digest, loadedDigest)) {
+                return;
+            }
+            keyManager.reload(keysFile);
+            loadedDigest = digest;
+        } catch (IOException | RuntimeException e) {
+            // 편집 도중 저장된 파일, 링크 교체 중 잠깐 없는 파일 등 → 다음 변경 이벤트 때 다시 시도
+            log.error("JWT key file reload failed, keeping current keys: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 심볼릭 링크를 따라가서 실제 파일 내용으로 계산
+     */
+    private byte[] digest() throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(keysFile));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.oauth.service;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * JWT 키 관리 컴포넌트
+ * - 애플리케이션 시작 시 설정(jwt.signing.*)으로 키 링/파서를 한 번만 생성
+ * - HS256 : jwt.secret 사용 (토큰을 검증하려는 모든 서비스가 시크릿을 알아야 함)
+ * - RS256 / ES256 : 개인키로 서명, 공개키는 /.well-known/jwks.json으로 공개 → 다른 서비스가 로컬에서 검증
+ * - jwt.signing.keys-file이 있으면 그 파일의 키 링 사용, 파일이 바뀌면 JwtKeyFileWatcher가 reload() 호출
+ *   파일이 기준: 파일에서 빠진 키는 직전 활성 키라도 바로 검증에서 제외 (유출 키 폐기)
+ * - rotate()로 교체 시 직전 활성 키들을 jwt.signing.retained-keys개까지 검증용으로 남겨서 기존 토큰이 한 번에 무효화되지 않게 함
+ * - 키 링은 통째로 새로 만들어 참조만 원자적으로 교체 (요청 처리 중인 스레드는 이전 묶음을 그대로 사용, 요청 경로에 락 없음)
+ */
+@Slf4j
+@Component
+public class JwtKeyManager {
+
+    private final AtomicReference<JwtKeyMaterial> current;
+    private final int retainedKeys;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 직전 활성 키들 (최근 것이 앞), 교체 작업은 드물어서 synchronized로 직렬화
+    private final Deque<JwtSigningKey> previousActiveKeys = new ArrayDeque<>();
+
+    @Autowired
+    public JwtKeyManager(@Value("${jwt.signing.algorithm:HS256}") SignatureAlgorithm algorithm,
+                         @Value("${jwt.signing.key-id:}") String keyId,
+                         @Value("${jwt.secret}") String secretKey,
+                         @Value("${jwt.signing.private-key-location:}") String privateKeyLocation,
+                         @Value("${jwt.signing.public-key-location:}") String publicKeyLocation,
+                         @Value("${jwt.signing.keys-file:}") String keysFile,
+                         @Value("${jwt.signing.retained-keys:2}") int retainedKeys,
+                         ApplicationEventPublisher eventPublisher) {
+        JwtKeyMaterial initial;
+        if (!keysFile.isBlank()) {
+            JwtKeyFile keyFile = JwtKeyFile.load(Path.of(keysFile));
+            initial = JwtKeyMaterial.of(keyFile.getActiveKey(), keyFile.getVerificationKeys());
+        } else {
+            initial = JwtKeyMaterial.of(loadSigningKey(algorithm, keyId, secretKey, privateKeyLocation, publicKeyLocation));
+        }
+        this.current = new AtomicReference<>(initial);
+        this.retainedKeys = retainedKeys;
+        this.eventPublisher = eventPublisher;
+
+        JwtSigningKey active = initial.getActiveKey();
+        log.info("JWT signing key: alg={}, kid={}, verification keys={}",
+                active.getAlgorithm(), active.getKid(), initial.getKeys().size());
+    }
+
+    /**
+     * HS256 시크릿 하나로 생성 (테스트 / 벤치마크용)
+     */
+    public JwtKeyManager(String secretKey) {
+        this(JwtKeyMaterial.fromSecret(secretKey));
+    }
+
+    /**
+     * 임의의 키 링으로 생성 (테스트 / 벤치마크용)
+     */
+    public JwtKeyManager(JwtKeyMaterial keyMaterial) {
+        this.current = new AtomicReference<>(keyMaterial);
+        this.retainedKeys = 2;
+        this.eventPublisher = null;
+    }
+
+    /**
+     * 현재 사용 중인 키/파서 묶음
+     */
+    public JwtKeyMaterial current() {
+        return current.get();
+    }
+
+    /**
+     * 새 서명 키로 교체 (직전 활성 키는 검증 전용으로 유지)
+     */
+    public void rotate(JwtSigningKey newSigningKey) {
+        rotate(newSigningKey, List.of());
+    }
+
+    /**
+     * 키 파일 다시 읽기
+     * - 파일에 있는 키만 남김 (직전 활성 키도 파일에서 빠졌으면 제외)
+     * - 기존 토큰을 계속 받으려면 이전 활성 키를 파일의 keys에 남겨둔 채로 active만 바꿈
+     */
+    public synchronized void reload(Path keysFile) {
+        JwtKeyFile keyFile = JwtKeyFile.load(keysFile);
+        Set<String> listedKids = new HashSet<>();
+        listedKids.add(keyFile.getActiveKey().getKid());
+        keyFile.getVerificationKeys().forEach(key -> listedKids.add(key.getKid()));
+
+        replace(keyFile.getActiveKey(), keyFile.getVerificationKeys(), key -> listedKids.contains(key.getKid()));
+    }
+
+    /**
+     * 활성 키 + 검증 키 교체
+     * - 직전 활성 키는 검증 전용으로 retainedKeys개까지 보관
+     */
+    public synchronized void rotate(JwtSigningKey newActiveKey, Collection<JwtSigningKey> verificationKeys) {
+        replace(newActiveKey, verificationKeys, key -> true);
+    }
+
+    /**
+     * 키/파서/JWKS 생성은 교체 전에 끝내고, 참조만 한 번에 바꿔치기
+     * - retainPrevious : 직전 활성 키 중 계속 검증에 쓸 키
+     */
+    private void replace(JwtSigningKey newActiveKey, Collection<JwtSigningKey> verificationKeys,
+                         Predicate<JwtSigningKey> retainPrevious) {
+        JwtKeyMaterial previous = current.get();
+        JwtSigningKey previousActive = previous.getActiveKey();
+
+        if (!previousActive.getKid().equals(newActiveKey.getKid())) {
+            previousActiveKeys.removeIf(key -> key.getKid().equals(previousActive.getKid()));
+            previousActiveKeys.addFirst(previousActive);
+        }
+        previousActiveKeys.removeIf(key -> key.getKid().equals(newActiveKey.getKid()));
+        previousActiveKeys.removeIf(retainPrevious.negate());
+        while (previousActiveKeys.size() > retainedKeys) {
+            previousActiveKeys.removeLast();
+        }
+
+        List<JwtSigningKey> keys = new ArrayList<>(verificationKeys);
+        keys.addAll(previousActiveKeys);
+        JwtKeyMaterial next = JwtKeyMaterial.of(newActiveKey, keys);
+        current.set(next);
+
+        Set<String> nextKids = next.getKeys().stream().map(JwtSigningKey::getKid).collect(Collectors.toSet());
+        Set<String> removedKids = previous.getKeys().stream()
+                .map(JwtSigningKey::getKid)
+                .filter(kid -> !nextKids.contains(kid))
+                .collect(Collectors.toUnmodifiableSet());
+
+        log.info("JWT keys rotated: active kid={}, verification keys={}, removed={}",
+                newActiveKey.getKid(), nextKids.size(), removedKids);
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new JwtKeysRotatedEvent(newActiveKey.getKid(), removedKids));
+        }
+    }
+
+    private static JwtSigningKey loadSigningKey(SignatureAlgorithm algorithm, String keyId, String secretKey,
+                                                String privateKeyLocation, String publicKeyLocation) {
+        if (algorithm.isHmac()) {
+            return JwtSigningKey.hmac(keyId, secretKey);
+        }
+
+        if (privateKeyLocation.isBlank() || publicKeyLocation.isBlank()) {
+            // 키 파일이 없으면 실행할 때마다 새 키쌍 → 재시작 시 기존 토큰 무효, 노드 간 키도 다름 (개발용)
+            log.warn("jwt.signing.private-key-location / public-key-location not set, generating an ephemeral {} key pair", algorithm);
+            return JwtSigningKey.generate(keyId, algorithm);
+        }
+
+        String keyAlgorithm = algorithm.isRsa() ? "RSA" : "EC";
+        return JwtSigningKey.asymmetric(keyId, algorithm,
+                PemKeys.readPrivateKey(PemKeys.read(privateKeyLocation), keyAlgorithm),
+                PemKeys.readPublicKey(PemKeys.read(publicKeyLocation), keyAlgorithm));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.oauth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.*;
+
+/**
+ * JWT 키 링 + 검증용 파서 묶음 (불변 객체)
+ * - 서명은 활성 키(activeKey) 하나로만, 검증은 링에 있는 모든 키로 가능
+ * - 검증 키는 토큰 헤더의 kid로 바로 찾음 (키를 하나씩 시도하지 않음)
+ * - 파서 / JWKS JSON / ETag는 링을 만들 때 한 번만 생성, JwtParser는 build() 이후 불변이라 스레드 안전
+ */
+public final class JwtKeyMaterial {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JwtSigningKey activeKey;
+    private final Map<String, JwtSigningKey> keysById;
+    private final JwtParser parser;
+    private final String jwksJson;
+    private final String jwksEtag;
+
+    private JwtKeyMaterial(JwtSigningKey activeKey, Collection<JwtSigningKey> verificationKeys) {
+        Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+        keys.put(activeKey.getKid(), activeKey);
+        for (JwtSigningKey key : verificationKeys) {
+            keys.putIfAbsent(key.getKid(), key);
+        }
+
+        this.activeKey = activeKey;
+        this.keysById = Collections.unmodifiableMap(keys);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KidSigningKeyResolver())
+                .build();
+        this.jwksJson = buildJwksJson(keys.values());
+        this.jwksEtag = "\"" + DigestUtils.md5DigestAsHex(jwksJson.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 활성 키 하나만 있는 링
+     */
+    public static JwtKeyMaterial of(JwtSigningKey activeKey) {
+        return new JwtKeyMaterial(activeKey, List.of());
+    }
+
+    /**
+     * 활성 키 + 검증 전용 키들
+     */
+    public static JwtKeyMaterial of(JwtSigningKey activeKey, Collection<JwtSigningKey> verificationKeys) {
+        return new JwtKeyMaterial(activeKey, verificationKeys);
+    }
+
+    /**
+     * 시크릿 문자열 → HS256 키 하나짜리 링
+     */
+    public static JwtKeyMaterial fromSecret(String secretKey) {
+        return of(JwtSigningKey.hmac(null, secretKey));
+    }
+
+    public JwtSigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    /**
+     * 활성 키의 서명용 키
+     */
+    public Key getKey() {
+        return activeKey.getSigningKey();
+    }
+
+    /**
+     * 링에 있는 모든 키 (활성 키가 첫 번째)
+     */
+    public Collection<JwtSigningKey> getKeys() {
+        return keysById.values();
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    /**
+     * 공개키 목록 JSON ({"keys":[...]}), HS256 키는 포함하지 않음
+     */
+    public String getJwksJson() {
+        return jwksJson;
+    }
+
+    /**
+     * JWKS JSON의 ETag (따옴표 포함), 링이 바뀔 때만 달라짐
+     */
+    public String getJwksEtag() {
+        return jwksEtag;
+    }
+
+    private static String buildJwksJson(Collection<JwtSigningKey> keys) {
+        List<Map<String, Object>> jwks = keys.stream()
+                .filter(JwtSigningKey::isAsymmetric)
+                .map(JwtSigningKey::toPublicJwk)
+                .toList();
+        try {
+            return OBJECT_MAPPER.writeValueAsString(Map.of("keys", jwks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWKS serialization failed", e);
+        }
+    }
+
+    /**
+     * 헤더의 kid → 검증 키
+     * - kid가 없는 토큰(kid 도입 전에 발급된 토큰)은 활성 키로 검증
+     * - 헤더 alg가 키의 알고리즘과 다르면 거부 (알고리즘 바꿔치기 방지)
+     */
+    private final class KidSigningKeyResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            JwtSigningKey key = kid == null ? activeKey : keysById.get(kid);
+            if (key == null) {
+                throw new SignatureException("Unknown JWT key id: " + kid);
+            }
+            if (!key.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("JWT alg " + header.getAlgorithm() + " does not match key " + kid);
+            }
+            return key.getVerificationKey();
+        }
+    }
+}
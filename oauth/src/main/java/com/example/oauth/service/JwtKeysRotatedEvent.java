@@ -0,0 +1,10 @@
+package com.example.oauth.service;
+
+import java.util.Set;
+
+/**
+ * 키 링이 교체되었을 때 발행되는 이벤트
+ * - removedKids : 이번 교체로 링에서 빠진 kid (이 키로 서명된 토큰은 더 이상 검증되지 않음)
+ */
+public record JwtKeysRotatedEvent(String activeKid, Set<String> removedKids) {
+}
@@ -1,135 +1,245 @@
 package com.example.oauth.service;
 
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.dto.VerifiedToken;
 import com.example.oauth.entity.AuthUsersEntity;
 import com.example.oauth.entity.AuthRolesEntity;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * JWT 토큰 생성 및 검증 서비스
+ * - 서명 키와 파서는 JwtKeyManager가 시작 시 한 번만 만들어 둔 것을 재사용
+ * - jwt.cache.enabled=true면 이미 검증한 토큰은 VerifiedTokenCache에서 바로 반환
+ * - roles 클레임 형식(기존 목록 / 압축 비트셋)은 RoleClaimCodec이 결정
+ * - 모든 토큰에 jti를 넣고, 검증 시 RevokedTokenSet(메모리)으로 폐기 여부 확인 (DB 조회 없음)
  */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final JwtKeyManager keyManager;
 
-    @Value("${jwt.expiration}")
-    private long validityInMilliseconds;
+    private final VerifiedTokenCache tokenCache;
+
+    private final RevokedTokenSet revokedTokens;
+
+    private final RoleClaimCodec roleClaimCodec;
+
+    private final AuthMetrics metrics;
+
+    private final long validityInMilliseconds;
+
+    @Autowired
+    public JwtService(JwtKeyManager keyManager,
+                      VerifiedTokenCache tokenCache,
+                      RevokedTokenSet revokedTokens,
+                      RoleClaimCodec roleClaimCodec,
+                      AuthMetrics metrics,
+                      @Value("${jwt.expiration}") long validityInMilliseconds) {
+        this.keyManager = keyManager;
+        this.tokenCache = tokenCache;
+        this.revokedTokens = revokedTokens;
+        this.roleClaimCodec = roleClaimCodec;
+        this.metrics = metrics;
+        this.validityInMilliseconds = validityInMilliseconds;
+    }
 
     /**
-     * 유저 정보를 바탕으로 JWT 토큰 생성 (username + roles)
+     * 지표 없이 생성 (테스트 / 벤치마크용)
      */
-    public String createToken(AuthUsersEntity user) {
-        // 현재 시간
-        Date now = new Date();
-        // 만료 시간 (현재 시간 + 설정된 만료 ms)
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
+    public JwtService(JwtKeyManager keyManager,
+                      VerifiedTokenCache tokenCache,
+                      RevokedTokenSet revokedTokens,
+                      RoleClaimCodec roleClaimCodec,
+                      long validityInMilliseconds) {
+        this(keyManager, tokenCache, revokedTokens, roleClaimCodec, AuthMetrics.noop(), validityInMilliseconds);
+    }
 
-        // SecretKey -> HMAC-SHA 키
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    /**
+     * 액세스 토큰 유효 시간 (ms)
+     */
+    public long getValidityInMilliseconds() {
+        return validityInMilliseconds;
+    }
 
+    /**
+     * 유저 정보를 바탕으로 JWT 토큰 생성 (username + roles)
+     */
+    public String createToken(AuthUsersEntity user) {
         // 유저가 가진 역할명 리스트
         List<String> roleNames = user.getRoles().stream()
                 .map(AuthRolesEntity::getRoleName)
                 .collect(Collectors.toList());
 
-        return Jwts.builder()
-                .setSubject(user.getUsername()) // 유저 식별 (예: testuser@example.com)
-                .claim("roles", roleNames)       // 권한 정보
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        return createToken(user.getUsername(), roleNames);
     }
-    
-    public String createTokenWithProfile(AuthUsersEntity user, String nickname, String profileImage) {
+
+    /**
+     * 읽기 전용 프로젝션으로 JWT 토큰 생성 (username + roles)
+     * - AuthUsersRepository.findCredentialsBy... 결과를 그대로 사용 (롤 컬렉션 로딩 없음)
+     */
+    public String createToken(AuthUserCredentials credentials) {
+        return createToken(credentials.username(), credentials.roleNames());
+    }
+
+    /**
+     * 인증 결과(Authentication)만으로 JWT 토큰 생성 (username + roles)
+     * - 로그인 직후 DB에서 유저를 다시 조회하지 않아도 됨
+     */
+    public String createToken(Authentication authentication) {
+        List<String> roleNames = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+
+        return createToken(authentication.getName(), roleNames);
+    }
+
+    private String createToken(String username, List<String> roleNames) {
+        // 현재 시간
         Date now = new Date();
+        // 만료 시간 (현재 시간 + 설정된 만료 ms)
         Date validity = new Date(now.getTime() + validityInMilliseconds);
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
 
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti (폐기 목록 키)
+                .setSubject(username) // 유저 식별 (예: testuser@example.com)
+                .setIssuedAt(now)
+                .setExpiration(validity);
+        roleClaimCodec.write(builder, roleNames); // 권한 정보
+        return sign(builder);
+    }
+    
+    public String createTokenWithProfile(AuthUsersEntity user, String nickname, String profileImage) {
         // 유저 Roles
         List<String> roleNames = user.getRoles().stream()
                 .map(AuthRolesEntity::getRoleName)
                 .collect(Collectors.toList());
 
-        // Claims에 추가 정보 넣기
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", roleNames);            // 기존 권한
-        claims.put("nickname", nickname);          // 소셜 닉네임
-        claims.put("profileImage", profileImage);  // 소셜 프로필 이미지
-        // 필요하다면 email도 같이 넣어도 됨
+        return createTokenWithProfile(user.getUsername(), roleNames, nickname, profileImage);
+    }
+
+    /**
+     * 소셜 로그인용 (읽기 전용 프로젝션 + 로그인 시 추출한 프로필)
+     */
+    public String createTokenWithProfile(AuthUserCredentials credentials, String nickname, String profileImage) {
+        return createTokenWithProfile(credentials.username(), credentials.roleNames(), nickname, profileImage);
+    }
+
+    private String createTokenWithProfile(String username, List<String> roleNames, String nickname, String profileImage) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + validityInMilliseconds);
 
-        return Jwts.builder()
-                .setSubject(user.getUsername()) // user의 username
-                .addClaims(claims)             // 위에서 만든 claims 통째로
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti (폐기 목록 키)
+                .setSubject(username) // user의 username
                 .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .setExpiration(validity);
+        roleClaimCodec.write(builder, roleNames); // 기존 권한
+
+        // 압축 모드에서는 프로필을 토큰에 넣지 않음 (요청마다 헤더에 실리는 URL 제거, GET /auth/profile로 조회)
+        if (!roleClaimCodec.isCompact()) {
+            // Claims에 추가 정보 넣기
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("nickname", nickname);          // 소셜 닉네임
+            claims.put("profileImage", profileImage);  // 소셜 프로필 이미지
+            // 필요하다면 email도 같이 넣어도 됨
+            builder.addClaims(claims);
+        }
+        return sign(builder);
+    }
+
+    /**
+     * 활성 키로 서명 (HS256 / RS256 / ES256은 설정에 따름)
+     * - 헤더에 kid를 넣어서 검증하는 쪽이 키를 바로 찾을 수 있게 함
+     */
+    private String sign(JwtBuilder builder) {
+        Timer.Sample sample = metrics.start();
+        JwtSigningKey signingKey = keyManager.current().getActiveKey();
+        String token = builder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm())
                 .compact();
+        metrics.tokenSigned(sample);
+        return token;
     }
     
     /**
      * JWT 토큰 파싱 → 전체 Claims 반환
      */
     public Claims getAllClaims(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return keyManager.current().getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
+    /**
+     * JWT 검증 + 클레임 디코딩을 한 번에 수행
+     * - 여러 클레임을 읽어야 할 때는 이 메서드로 한 번만 검증하고 VerifiedToken에서 꺼내 쓰기
+     * - 서명 불일치/만료/형식 오류 시 JwtException(또는 IllegalArgumentException) 발생
+     * - 토큰 캐시가 켜져 있으면 exp 전까지는 캐시 조회로 끝남
+     * - 폐기 여부는 캐시와 상관없이 매번 확인 (메모리 조회라 비용은 무시할 수준)
+     * - 결과별 지연 시간은 auth.jwt.verify (outcome 태그)
+     */
+    public VerifiedToken verify(String token) {
+        Timer.Sample sample = metrics.start();
+        try {
+            VerifiedToken verified = verifyAndCheckRevocation(token);
+            metrics.tokenVerified(sample, "success");
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            metrics.tokenVerified(sample, AuthMetrics.verifyFailureReason(e));
+            throw e;
+        }
+    }
+
+    private VerifiedToken verifyAndCheckRevocation(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT string is empty");
+        }
+        VerifiedToken verified = tokenCache.get(token, t -> {
+            Claims claims = getAllClaims(t);
+            return VerifiedToken.from(claims, roleClaimCodec.read(claims));
+        });
+        if (revokedTokens.contains(verified.getTokenId())) {
+            throw new RevokedJwtException("JWT has been revoked");
+        }
+        return verified;
+    }
+
     /**
      * JWT에서 username 추출
      */
     public String getUsername(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return verify(token).getSubject();
     }
     
     /**
-     * JWT에서 nickname 추출
+     * JWT에서 nickname 추출 (압축 모드 토큰은 null → GET /auth/profile 사용)
      */
     public String getNickname(String token) {
-        Claims claims = getAllClaims(token);
-        return (String) claims.get("nickname");
+        return verify(token).getNickname();
     }
     
     /**
-     * JWT에서 profileImage 추출
+     * JWT에서 profileImage 추출 (압축 모드 토큰은 null → GET /auth/profile 사용)
      */
     public String getProfileImage(String token) {
-        Claims claims = getAllClaims(token);
-        return (String) claims.get("profileImage");
+        return verify(token).getProfileImage();
     }
 
     /**
      * JWT에서 roles(권한) 목록 추출
      */
-    @SuppressWarnings("unchecked")
     public List<String> getRoles(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return (List<String>) claims.get("roles", List.class);
+        return verify(token).getRoles();
     }
 
     /**
@@ -137,11 +247,7 @@ public class JwtService {
      */
     public boolean validateToken(String token) {
         try {
-            Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -0,0 +1,179 @@
+package com.example.oauth.service;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * kid(Key ID)가 붙은 서명 키 1개 (불변 객체)
+ * - HS256      : 서명/검증 모두 같은 SecretKey
+ * - RS256/ES256: 개인키로 서명, 공개키로 검증 (공개키는 JWKS로 외부에 공개)
+ */
+public final class JwtSigningKey {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final String kid;
+    private final SignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+
+    private JwtSigningKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+    }
+
+    /**
+     * HS256 키 (kid가 비어 있으면 시크릿 해시 앞부분으로 생성)
+     */
+    public static JwtSigningKey hmac(String kid, String secret) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        Key key = Keys.hmacShaKeyFor(secretBytes);
+        String keyId = hasText(kid) ? kid : "hs-" + BASE64_URL.encodeToString(sha256(secretBytes)).substring(0, 11);
+        return new JwtSigningKey(keyId, SignatureAlgorithm.HS256, key, key);
+    }
+
+    /**
+     * RS256 / ES256 키 (kid가 비어 있으면 RFC 7638 JWK Thumbprint 사용)
+     */
+    public static JwtSigningKey asymmetric(String kid, SignatureAlgorithm algorithm, PrivateKey privateKey, PublicKey publicKey) {
+        if (!algorithm.isRsa() && !algorithm.isEllipticCurve()) {
+            throw new IllegalArgumentException("Not an asymmetric algorithm: " + algorithm);
+        }
+        JwtSigningKey key = new JwtSigningKey(kid, algorithm, privateKey, publicKey);
+        return hasText(kid) ? key : new JwtSigningKey(key.thumbprint(), algorithm, privateKey, publicKey);
+    }
+
+    /**
+     * 새 키쌍 생성 (키 파일이 없을 때 개발용 / 테스트용)
+     */
+    public static JwtSigningKey generate(String kid, SignatureAlgorithm algorithm) {
+        try {
+            KeyPairGenerator generator;
+            if (algorithm.isRsa()) {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+            } else if (algorithm == SignatureAlgorithm.ES256) {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            } else {
+                throw new IllegalArgumentException("Unsupported algorithm for key generation: " + algorithm);
+            }
+            KeyPair keyPair = generator.generateKeyPair();
+            return asymmetric(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Key generation failed: " + algorithm, e);
+        }
+    }
+
+    public String getKid() {
+        return kid;
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public Key getVerificationKey() {
+        return verificationKey;
+    }
+
+    /**
+     * 공개해도 되는 키인지 (HS256 시크릿은 절대 JWKS에 노출하면 안 됨)
+     */
+    public boolean isAsymmetric() {
+        return !algorithm.isHmac();
+    }
+
+    /**
+     * 공개키 → JWK (RFC 7517) 맵, HS256이면 null
+     */
+    public Map<String, Object> toPublicJwk() {
+        if (!isAsymmetric()) {
+            return null;
+        }
+        Map<String, Object> jwk = new LinkedHashMap<>(requiredMembers());
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        return jwk;
+    }
+
+    /**
+     * JWK 필수 멤버 (RFC 7638 Thumbprint 계산용, 사전순)
+     */
+    private Map<String, Object> requiredMembers() {
+        Map<String, Object> members = new LinkedHashMap<>();
+        if (verificationKey instanceof RSAPublicKey rsa) {
+            members.put("e", BASE64_URL.encodeToString(unsigned(rsa.getPublicExponent(), 0)));
+            members.put("kty", "RSA");
+            members.put("n", BASE64_URL.encodeToString(unsigned(rsa.getModulus(), 0)));
+        } else if (verificationKey instanceof ECPublicKey ec) {
+            int fieldSize = (ec.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            members.put("crv", "P-" + ec.getParams().getCurve().getField().getFieldSize());
+            members.put("kty", "EC");
+            members.put("x", BASE64_URL.encodeToString(unsigned(ec.getW().getAffineX(), fieldSize)));
+            members.put("y", BASE64_URL.encodeToString(unsigned(ec.getW().getAffineY(), fieldSize)));
+        } else {
+            throw new IllegalStateException("Unsupported public key: " + verificationKey.getAlgorithm());
+        }
+        return members;
+    }
+
+    private String thumbprint() {
+        StringBuilder json = new StringBuilder("{");
+        requiredMembers().forEach((name, value) -> {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(name).append("\":\"").append(value).append('"');
+        });
+        json.append('}');
+        return BASE64_URL.encodeToString(sha256(json.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * BigInteger → 부호 없는 big-endian 바이트 (length > 0이면 앞을 0으로 채워 길이 고정)
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            bytes = trimmed;
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return bytes;
+    }
+
+    private static byte[] sha256(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.dto.TokenResponse;
+import com.example.oauth.entity.AuthRefreshTokensEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthRefreshTokensRepository;
+import com.example.oauth.repository.AuthUsersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급 / 회전 / 폐기
+ * - 토큰은 불투명한 랜덤 문자열(256bit), DB에는 SHA-256 해시만 저장
+ * - 재발급 시 사용한 토큰은 폐기하고 같은 패밀리로 새 토큰 발급 (회전)
+ * - 이미 사용된 토큰이 다시 오면 재사용(탈취)으로 보고 패밀리 전체 폐기
+ * - 재발급 비용은 인덱스 조회 2회(토큰, 유저 프로젝션) + 업데이트/인서트 (BCrypt, 소셜 로그인 왕복 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final AuthRefreshTokensRepository refreshTokensRepository;
+    private final AuthUsersRepository authUsersRepository;
+    private final JwtService jwtService;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh.expiration}")
+    private long refreshValidityInMilliseconds;
+
+    /**
+     * 로그인 성공 시 새 패밀리로 리프레시 토큰 발급
+     * - 유저는 PK 참조만 사용 (추가 조회 없음)
+     */
+    @Transactional
+    public String issue(Integer userId) {
+        return issue(authUsersRepository.getReferenceById(userId), UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 + 리프레시 토큰 회전
+     * - 재사용 감지 시 패밀리 폐기는 커밋하고 예외를 던짐 (noRollbackFor)
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenResponse refresh(String rawRefreshToken) {
+        AuthRefreshTokensEntity current = refreshTokensRepository.findByTokenHash(hash(rawRefreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Unknown refresh token"));
+
+        Instant now = Instant.now();
+        if (current.isRevoked()) {
+            throw new InvalidRefreshTokenException("Refresh token revoked");
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+        if (refreshTokensRepository.markUsed(current.getRefreshTokenId(), now) == 0) {
+            // 이미 회전에 사용된 토큰 → 탈취된 토큰일 수 있으므로 이 로그인에서 나온 토큰 전부 폐기
+            refreshTokensRepository.revokeFamily(current.getFamilyId());
+            log.warn("Refresh token reuse detected, family {} revoked (user {})",
+                    current.getFamilyId(), current.getUser().getUserId());
+            throw new InvalidRefreshTokenException("Refresh token reuse detected");
+        }
+
+        // 유저는 프록시의 User_ID만 쓰고, 토큰 발급은 조인 프로젝션으로 (롤 컬렉션 로딩 없음)
+        AuthUserCredentials credentials = authUsersRepository.findCredentialsById(current.getUser().getUserId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("User not found"));
+        String nextRefreshToken = issue(current.getUser(), current.getFamilyId());
+        String accessToken = jwtService.createToken(credentials);
+
+        return new TokenResponse(accessToken, nextRefreshToken,
+                jwtService.getValidityInMilliseconds() / 1000,
+                refreshValidityInMilliseconds / 1000);
+    }
+
+    /**
+     * 로그아웃 등으로 리프레시 토큰(패밀리 전체) 폐기
+     */
+    @Transactional
+    public void revoke(String rawRefreshToken) {
+        refreshTokensRepository.findByTokenHash(hash(rawRefreshToken))
+                .ifPresent(token -> refreshTokensRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    public long getRefreshValidityInSeconds() {
+        return refreshValidityInMilliseconds / 1000;
+    }
+
+    /**
+     * 만료된 리프레시 토큰 정리 (기본 매시 정각)
+     */
+    @Scheduled(cron = "${jwt.refresh.cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokensRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(AuthUsersEntity user, String familyId) {
+        byte[] random = new byte[32];
+        secureRandom.nextBytes(random);
+        String rawToken = BASE64_URL.encodeToString(random);
+
+        Instant now = Instant.now();
+        refreshTokensRepository.save(AuthRefreshTokensEntity.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .createdAt(now)
+                .expiresAt(now.plusMillis(refreshValidityInMilliseconds))
+                .build());
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return BASE64_URL.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.oauth.service;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * 서명 / 만료는 정상이지만 폐기 목록(RevokedTokenSet)에 있는 토큰
+ */
+public class RevokedJwtException extends JwtException {
+
+    public RevokedJwtException(String message) {
+        super(message);
+    }
+}
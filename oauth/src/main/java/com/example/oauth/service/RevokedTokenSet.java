@@ -0,0 +1,62 @@
+package com.example.oauth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 메모리에 들고 있는 폐기 토큰(jti) 목록
+ * - 정확한 집합(ConcurrentHashMap) 하나로 확인 → 조회는 해시 1번, 락 없음, 오탐 없음
+ * - 항목은 토큰 exp까지만 유지, prune() 때 지움 → 메모리는 유효 토큰 구간에 폐기된 수에 비례
+ *   (예: 10만 건이면 jti 문자열 + 엔트리로 수십 MB 이하)
+ *
+ * 블룸 필터를 앞에 두지 않는 이유
+ * - 오탐을 없애려면 어차피 정확한 집합이 필요해서 메모리가 줄지 않고, 조회도 해시 k번이 더해질 뿐
+ * - 필터만 메모리에 두고 양성일 때 DB를 보는 방식은 메모리는 작지만 폐기된 토큰 / 오탐마다
+ *   검증 경로에 DB 조회가 생김 → 폐기 건수가 이 정도 규모에서는 정확한 집합이 더 단순하고 빠름
+ */
+@Component
+public class RevokedTokenSet {
+
+    // jti → 토큰 만료 시각
+    private final ConcurrentHashMap<String, Instant> revoked;
+
+    public RevokedTokenSet(@Value("${jwt.revocation.expected-entries:100000}") long expectedEntries) {
+        // 예상치만큼 미리 잡아서 폐기가 몰릴 때 테이블 확장을 줄임 (넘어가도 자동으로 늘어남)
+        this.revoked = new ConcurrentHashMap<>((int) Math.min(expectedEntries, 1 << 20));
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (락 없음)
+     * - jti가 없는 토큰(이전 버전에서 발급)은 폐기 대상이 아님
+     */
+    public boolean contains(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 폐기 토큰 추가 (이미 만료된 토큰은 무시)
+     */
+    public void add(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revoked.putIfAbsent(tokenId, expiresAt);
+    }
+
+    /**
+     * 만료된 항목 제거
+     * @return 제거된 항목 수
+     */
+    public int prune(Instant now) {
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        return before - revoked.size();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.oauth.service;
+
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.repository.AuthRolesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * auth_roles 테이블을 메모리에 들고 있는 롤 카탈로그
+ * - 이름 / ID / 서비스별 불변 맵 스냅샷 → 조회는 O(1), 락 없음
+ * - 이 노드에서 롤이 바뀌면 RoleCatalogListener가 커밋 후 해당 롤만 반영 (스냅샷 교체)
+ * - 다른 노드의 변경은 auth.role-catalog.refresh-interval 마다 전체 다시 읽기로 반영 (롤 수가 적어 부담 없음)
+ * - 압축 roles 클레임용 RoleDictionary도 스냅샷과 함께 만들어 둠
+ */
+@Slf4j
+@Component
+public class RoleCatalog {
+
+    /**
+     * 카탈로그 항목 (엔티티가 아닌 불변 값)
+     */
+    public record Role(Integer roleId, String roleName, String serviceName) {
+
+        static Role from(AuthRolesEntity entity) {
+            return new Role(entity.getRoleId(), entity.getRoleName(), entity.getServiceName());
+        }
+    }
+
+    private record Snapshot(Map<String, Role> byName,
+                            Map<Integer, Role> byId,
+                            Map<String, List<Role>> byService,
+                            RoleDictionary dictionary) {
+
+        static Snapshot of(Collection<Role> roles) {
+            Map<Integer, Role> byId = new HashMap<>();
+            Map<String, Role> byName = new HashMap<>();
+            for (Role role : roles) {
+                byId.put(role.roleId(), role);
+                byName.put(role.roleName(), role);
+            }
+            Map<String, List<Role>> byService = roles.stream()
+                    .filter(role -> role.serviceName() != null)
+                    .collect(Collectors.groupingBy(Role::serviceName, Collectors.toUnmodifiableList()));
+            Map<Integer, String> names = byId.values().stream()
+                    .collect(Collectors.toMap(Role::roleId, Role::roleName));
+            return new Snapshot(Map.copyOf(byName), Map.copyOf(byId), Map.copyOf(byService), RoleDictionary.of(names));
+        }
+    }
+
+    private final AuthRolesRepository authRolesRepository;
+
+    // 처음 조회할 때 읽음 (시작 시 스키마 생성 / 시딩 순서와 무관하게)
+    private volatile Snapshot snapshot;
+
+    public RoleCatalog(AuthRolesRepository authRolesRepository) {
+        this.authRolesRepository = authRolesRepository;
+    }
+
+    public Optional<Role> findByName(String roleName) {
+        return Optional.ofNullable(snapshot().byName().get(roleName));
+    }
+
+    public Optional<Role> findById(Integer roleId) {
+        return Optional.ofNullable(snapshot().byId().get(roleId));
+    }
+
+    public List<Role> findByService(String serviceName) {
+        return snapshot().byService().getOrDefault(serviceName, List.of());
+    }
+
+    public Collection<Role> getRoles() {
+        return snapshot().byId().values();
+    }
+
+    public RoleDictionary getDictionary() {
+        return snapshot().dictionary();
+    }
+
+    /**
+     * 이름으로 롤 찾기, 없으면 생성 (시딩용)
+     * - 카탈로그에 있으면 DB 조회 없음
+     * - 다른 노드가 먼저 만들었으면(Role_Name 유니크 위반) 그 롤을 사용
+     */
+    public synchronized Role getOrCreate(String roleName, String serviceName) {
+        Role existing = snapshot().byName().get(roleName);
+        if (existing != null) {
+            return existing;
+        }
+
+        AuthRolesEntity entity = authRolesRepository.findByRoleName(roleName).orElseGet(() -> {
+            try {
+                return authRolesRepository.save(AuthRolesEntity.builder()
+                        .roleName(roleName)
+                        .serviceName(serviceName)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                return authRolesRepository.findByRoleName(roleName).orElseThrow(() -> e);
+            }
+        });
+        Role role = Role.from(entity);
+        put(role);
+        return role;
+    }
+
+    /**
+     * 롤 하나 추가/변경 반영 (RoleCatalogListener에서 커밋 후 호출)
+     */
+    public synchronized void put(Role role) {
+        Map<Integer, Role> roles = new HashMap<>(snapshot().byId());
+        roles.put(role.roleId(), role);
+        snapshot = Snapshot.of(roles.values());
+    }
+
+    /**
+     * 롤 하나 삭제 반영
+     */
+    public synchronized void remove(Integer roleId) {
+        Map<Integer, Role> roles = new HashMap<>(snapshot().byId());
+        if (roles.remove(roleId) != null) {
+            snapshot = Snapshot.of(roles.values());
+        }
+    }
+
+    /**
+     * auth_roles 전체 다시 읽기 (다른 노드에서 바뀐 롤 반영)
+     */
+    @Scheduled(fixedDelayString = "${auth.role-catalog.refresh-interval:60000}",
+               initialDelayString = "${auth.role-catalog.refresh-interval:60000}")
+    public synchronized void refresh() {
+        Snapshot loaded = Snapshot.of(authRolesRepository.findAll().stream().map(Role::from).toList());
+        Snapshot previous = snapshot;
+        snapshot = loaded;
+        if (previous == null || !previous.dictionary().getVersion().equals(loaded.dictionary().getVersion())) {
+            log.info("Role catalog loaded: {} roles (dictionary version {})",
+                    loaded.byId().size(), loaded.dictionary().getVersion());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.oauth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT roles 클레임 인코딩 / 디코딩
+ * - 기본(jwt.claims.compact=false): "roles": ["ROLE_USER", ...] (기존 형식)
+ * - 압축(jwt.claims.compact=true) : "rv": 켜진 Role_ID들의 지문, "rb": Role_ID 비트셋 (RoleDictionary)
+ * - 읽을 때는 두 형식 모두 지원 → 설정을 바꿔도 이미 발급된 토큰은 그대로 통과
+ * - 사전은 RoleCatalog 스냅샷을 그대로 쓰고, 모르는 역할명이나 맞지 않는 지문이 나오면 카탈로그를 한 번 다시 읽음
+ * - 지문은 사전 전체가 아니라 토큰에 든 롤만 보므로, 롤이 추가된 뒤 새로 뜬 노드도 기존 토큰을 그대로 해석
+ * - 다시 읽어도 지문이 맞지 않으면(롤 삭제, Role_ID 재사용 등) rb를 해석하지 않고 롤 없음으로 처리
+ */
+@Component
+public class RoleClaimCodec {
+
+    public static final String ROLES_CLAIM = "roles";
+    public static final String ROLE_BITS_CLAIM = "rb";
+    public static final String ROLE_DICTIONARY_VERSION_CLAIM = "rv";
+
+    // null이면 고정 사전(fixedDictionary) 사용
+    private final RoleCatalog roleCatalog;
+    private final RoleDictionary fixedDictionary;
+    private final boolean compact;
+
+    // 현재 사전과 지문이 맞지 않아 카탈로그를 다시 읽어본 지문 (같은 사전 버전으로 DB를 반복해서 읽지 않도록)
+    private volatile ReloadedFingerprints reloadedFingerprints = new ReloadedFingerprints("", Set.of());
+
+    @Autowired
+    public RoleClaimCodec(RoleCatalog roleCatalog,
+                          @Value("${jwt.claims.compact:false}") boolean compact) {
+        this.roleCatalog = roleCatalog;
+        this.fixedDictionary = null;
+        this.compact = compact;
+    }
+
+    /**
+     * 고정 사전으로 생성 (테스트 / 벤치마크용, DB 조회 없음)
+     */
+    public RoleClaimCodec(RoleDictionary dictionary, boolean compact) {
+        this.roleCatalog = null;
+        this.fixedDictionary = dictionary;
+        this.compact = compact;
+    }
+
+    /**
+     * 기존 형식(roles 목록)만 쓰는 코덱
+     */
+    public static RoleClaimCodec standard() {
+        return new RoleClaimCodec(RoleDictionary.EMPTY, false);
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public RoleDictionary getDictionary() {
+        return roleCatalog != null ? roleCatalog.getDictionary() : fixedDictionary;
+    }
+
+    /**
+     * 롤 카탈로그를 DB에서 다시 읽고 사전 반환
+     */
+    public RoleDictionary reload() {
+        if (roleCatalog != null) {
+            roleCatalog.refresh();
+        }
+        return getDictionary();
+    }
+
+    /**
+     * 토큰에 roles 클레임 쓰기
+     * - 압축 모드라도 사전에 없는 역할이 있으면(사전 재조회 후에도) 기존 형식으로 씀
+     */
+    public JwtBuilder write(JwtBuilder builder, List<String> roleNames) {
+        if (compact) {
+            RoleDictionary current = getDictionary();
+            if (!current.containsAll(roleNames)) {
+                current = reload();
+            }
+            String bits = current.encode(roleNames);
+            if (bits != null) {
+                return builder
+                        .claim(ROLE_DICTIONARY_VERSION_CLAIM, current.fingerprint(bits))
+                        .claim(ROLE_BITS_CLAIM, bits);
+            }
+        }
+        return builder.claim(ROLES_CLAIM, roleNames);
+    }
+
+    /**
+     * 검증된 Claims에서 역할명 목록 읽기 (두 형식 모두)
+     */
+    public List<String> read(Claims claims) {
+        String bits = claims.get(ROLE_BITS_CLAIM, String.class);
+        if (bits != null) {
+            return decode(claims.get(ROLE_DICTIONARY_VERSION_CLAIM, String.class), bits);
+        }
+        List<?> rawRoles = claims.get(ROLES_CLAIM, List.class);
+        return rawRoles == null
+                ? List.of()
+                : rawRoles.stream().map(String::valueOf).toList();
+    }
+
+    private List<String> decode(String fingerprint, String bits) {
+        if (fingerprint == null) {
+            return List.of();
+        }
+        RoleDictionary current = getDictionary();
+        if (!fingerprint.equals(current.fingerprint(bits)) && reloadedFor(current).add(fingerprint)) {
+            // 다른 노드가 더 새 사전으로 발급한 토큰 (이 노드가 아직 모르는 롤) → 한 번만 다시 읽음
+            current = reload();
+        }
+        if (!fingerprint.equals(current.fingerprint(bits))) {
+            // 발급 당시와 Role_ID → Role_Name이 다름 (롤 삭제, DB 재생성 등) → 다른 롤로 잘못 해석하지 않도록 롤 없음
+            return List.of();
+        }
+        return current.decode(bits);
+    }
+
+    /**
+     * 현재 사전 버전 기준으로 이미 다시 읽어본 지문 집합 (사전이 바뀌면 새로 시작)
+     */
+    private Set<String> reloadedFor(RoleDictionary dictionary) {
+        ReloadedFingerprints reloaded = reloadedFingerprints;
+        if (!reloaded.dictionaryVersion().equals(dictionary.getVersion())) {
+            reloaded = new ReloadedFingerprints(dictionary.getVersion(), ConcurrentHashMap.newKeySet());
+            reloadedFingerprints = reloaded;
+        }
+        return reloaded.fingerprints();
+    }
+
+    private record ReloadedFingerprints(String dictionaryVersion, Set<String> fingerprints) {
+    }
+}
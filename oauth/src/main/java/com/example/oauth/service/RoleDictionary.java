@@ -0,0 +1,114 @@
+package com.example.oauth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Role_ID ↔ Role_Name 사전 (압축 roles 클레임용, 불변)
+ * - 토큰에는 역할명 대신 Role_ID 비트셋(rb)과 그 비트들의 지문(rv, fingerprint)만 넣음
+ * - 버전(getVersion)은 사전 전체 (id, name) 목록의 SHA-256 앞 8자리 → 사전 API ETag / 로그용
+ * - 지문은 비트셋에 켜진 Role_ID의 (id, name)만 해시 → 롤이 추가되어도 기존 토큰의 지문은 그대로
+ * - 비트셋: Role_ID 번째 비트를 켠 little-endian 바이트 배열 → base64url (ROLE_USER 하나면 "Ag" 두 글자)
+ */
+public final class RoleDictionary {
+
+    public static final RoleDictionary EMPTY = of(Map.of());
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private final String version;
+    private final Map<Integer, String> namesById;
+    private final Map<String, Integer> idsByName;
+
+    private RoleDictionary(String version, Map<Integer, String> namesById, Map<String, Integer> idsByName) {
+        this.version = version;
+        this.namesById = namesById;
+        this.idsByName = idsByName;
+    }
+
+    public static RoleDictionary of(Map<Integer, String> rolesById) {
+        Map<Integer, String> namesById = Collections.unmodifiableMap(new TreeMap<>(rolesById));
+        Map<String, Integer> idsByName = new HashMap<>();
+        namesById.forEach((id, name) -> idsByName.put(name, id));
+        return new RoleDictionary(hash(namesById), namesById, idsByName);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Role_ID → Role_Name (Role_ID 오름차순, 수정 불가)
+     */
+    public Map<Integer, String> getRoles() {
+        return namesById;
+    }
+
+    /**
+     * 역할명 목록 → 비트셋 문자열
+     * @return 사전에 없는 역할이 하나라도 있으면 null
+     */
+    public String encode(Collection<String> roleNames) {
+        BitSet bits = new BitSet();
+        for (String roleName : roleNames) {
+            Integer roleId = idsByName.get(roleName);
+            if (roleId == null || roleId < 0) {
+                return null;
+            }
+            bits.set(roleId);
+        }
+        return BASE64_URL.encodeToString(bits.toByteArray());
+    }
+
+    /**
+     * 비트셋 문자열 → 역할명 목록 (Role_ID 오름차순)
+     * - 사전에 없는 Role_ID(삭제된 롤)는 건너뜀
+     */
+    public List<String> decode(String encoded) {
+        BitSet bits = BitSet.valueOf(BASE64_URL_DECODER.decode(encoded));
+        List<String> roleNames = new ArrayList<>(bits.cardinality());
+        for (int roleId = bits.nextSetBit(0); roleId >= 0; roleId = bits.nextSetBit(roleId + 1)) {
+            String roleName = namesById.get(roleId);
+            if (roleName != null) {
+                roleNames.add(roleName);
+            }
+        }
+        return List.copyOf(roleNames);
+    }
+
+    /**
+     * 비트셋에 켜진 Role_ID들을 이 사전으로 읽었을 때의 지문 (토큰 rv 클레임)
+     * - 발급 노드와 검증 노드가 켜진 비트마다 같은 Role_ID → Role_Name을 갖고 있으면 같은 값
+     * @return 켜진 Role_ID 중 이 사전에 없는 것이 있으면 null
+     */
+    public String fingerprint(String encoded) {
+        BitSet bits = BitSet.valueOf(BASE64_URL_DECODER.decode(encoded));
+        Map<Integer, String> entries = new TreeMap<>();
+        for (int roleId = bits.nextSetBit(0); roleId >= 0; roleId = bits.nextSetBit(roleId + 1)) {
+            String roleName = namesById.get(roleId);
+            if (roleName == null) {
+                return null;
+            }
+            entries.put(roleId, roleName);
+        }
+        return hash(entries);
+    }
+
+    public boolean containsAll(Collection<String> roleNames) {
+        return idsByName.keySet().containsAll(roleNames);
+    }
+
+    private static String hash(Map<Integer, String> namesById) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            namesById.forEach((id, name) ->
+                    digest.update((id + ":" + name + "\n").getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
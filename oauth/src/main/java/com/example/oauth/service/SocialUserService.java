@@ -0,0 +1,57 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.dto.LinkedUser;
+import com.example.oauth.dto.OAuth2UserInfo;
+import com.example.oauth.repository.AuthUserIdentitiesRepository;
+import com.example.oauth.repository.AuthUsersRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 소셜 로그인 유저 조회 / 가입
+ * - 재방문: (Provider, Provider_User_ID) 조회 1번 (+ 프로필이 바뀌었으면 UPDATE 1번)
+ * - 첫 방문: 유저 + 연결을 INSERT ... ON CONFLICT 1번으로 만든 뒤 다시 조회
+ *   같은 Email의 기존 계정에는 Provider가 인증한 이메일일 때만 연결
+ *   (연결 테이블 이전에 같은 소셜 계정으로 만든 대체값 Email 유저는 예외로 연결 → 기존 카카오 유저 재로그인)
+ * - findByUsername → save 사이에 동시 콜백이 끼어들어 Email 유니크 위반이 나던 문제 제거
+ */
+@Service
+@RequiredArgsConstructor
+public class SocialUserService {
+
+    private final AuthUserIdentitiesRepository authUserIdentitiesRepository;
+    private final AuthUsersRepository authUsersRepository;
+
+    public AuthUserCredentials resolve(OAuth2UserInfo userInfo) {
+        LinkedUser user = authUserIdentitiesRepository
+                .findLinkedUser(userInfo.provider(), userInfo.providerUserId())
+                .orElseGet(() -> register(userInfo));
+
+        // 소셜 프로필은 토큰 대신 DB에 저장 (바뀌었을 때만 UPDATE)
+        if (!Objects.equals(user.nickname(), userInfo.nickname())
+                || !Objects.equals(user.profileImage(), userInfo.profileImage())) {
+            authUsersRepository.updateProfile(user.credentials().userId(),
+                    userInfo.nickname(), userInfo.profileImage());
+        }
+        return user.credentials();
+    }
+
+    private LinkedUser register(OAuth2UserInfo userInfo) {
+        authUserIdentitiesRepository.upsert(userInfo.provider(), userInfo.providerUserId(),
+                userInfo.email(), userInfo.emailVerified(), socialPassword(userInfo.provider()),
+                userInfo.nickname(), userInfo.profileImage());
+        return authUserIdentitiesRepository.findLinkedUser(userInfo.provider(), userInfo.providerUserId())
+                // 인증되지 않은 이메일(대체값)이 이미 다른 계정에서 쓰이는 경우
+                .orElseThrow(() -> new IllegalStateException(
+                        "Social identity not linked: " + userInfo.provider()));
+    }
+
+    // 소셜 가입 유저의 Password 자리 (BCrypt 형식이 아니라 일반 로그인으로는 통과 불가)
+    private static String socialPassword(String provider) {
+        return provider.toUpperCase(Locale.ROOT) + "_OAUTH";
+    }
+}
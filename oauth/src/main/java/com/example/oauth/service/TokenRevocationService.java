@@ -0,0 +1,117 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.VerifiedToken;
+import com.example.oauth.entity.AuthRevokedTokensEntity;
+import com.example.oauth.repository.AuthRevokedTokensRepository;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 액세스 토큰 폐기 (exp 전에 무효화)
+ * - 폐기 목록은 DB(auth_revoked_tokens)에 저장하고, 검증은 각 노드의 RevokedTokenSet으로만 수행
+ * - 다른 노드에서 폐기한 토큰은 jwt.revocation.sync-interval 마다 증분 동기화로 반영
+ * - 만료된 항목은 jwt.revocation.prune-interval 마다 메모리와 DB에서 정리
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final AuthRevokedTokensRepository revokedTokensRepository;
+    private final RevokedTokenSet revokedTokens;
+    private final JwtService jwtService;
+    private final Duration syncLookback;
+
+    // 마지막 동기화 시작 시각 (다음 동기화는 여기서 syncLookback만큼 앞부터 조회)
+    private volatile Instant syncedUntil = Instant.EPOCH;
+
+    public TokenRevocationService(AuthRevokedTokensRepository revokedTokensRepository,
+                                  RevokedTokenSet revokedTokens,
+                                  JwtService jwtService,
+                                  @Value("${jwt.revocation.sync-lookback:30s}") Duration syncLookback) {
+        this.revokedTokensRepository = revokedTokensRepository;
+        this.revokedTokens = revokedTokens;
+        this.jwtService = jwtService;
+        this.syncLookback = syncLookback;
+    }
+
+    /**
+     * 토큰 폐기
+     * - 서명이 유효한 토큰만 폐기 (위조 토큰으로 목록을 채울 수 없게)
+     * @return 이번 호출로 폐기되었으면 true, 잘못된/이미 폐기된/jti 없는 토큰이면 false
+     */
+    public boolean revoke(String token) {
+        VerifiedToken verified;
+        try {
+            verified = jwtService.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+        if (verified.getTokenId() == null) {
+            return false;
+        }
+
+        if (!revokedTokensRepository.existsByTokenId(verified.getTokenId())) {
+            try {
+                revokedTokensRepository.save(AuthRevokedTokensEntity.builder()
+                        .tokenId(verified.getTokenId())
+                        .expiresAt(verified.getExpiration())
+                        .revokedAt(Instant.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드에서 동시에 폐기함
+                log.debug("Token {} already revoked", verified.getTokenId());
+            }
+        }
+        // 이 노드에는 바로 반영
+        revokedTokens.add(verified.getTokenId(), verified.getExpiration());
+        return true;
+    }
+
+    /**
+     * 시작 시 전체 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        sync();
+    }
+
+    /**
+     * 증분 동기화
+     * - 다른 노드의 커밋 지연 / 시계 차이를 고려해 syncLookback만큼 겹쳐서 조회 (중복 추가는 무시됨)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:5000}",
+               initialDelayString = "${jwt.revocation.sync-interval:5000}")
+    public void sync() {
+        Instant startedAt = Instant.now();
+        List<AuthRevokedTokensEntity> revoked =
+                revokedTokensRepository.findActiveRevokedSince(syncedUntil.minus(syncLookback), startedAt);
+        for (AuthRevokedTokensEntity entity : revoked) {
+            revokedTokens.add(entity.getTokenId(), entity.getExpiresAt());
+        }
+        syncedUntil = startedAt;
+    }
+
+    /**
+     * 만료된 폐기 항목 정리 (메모리 + DB)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval:600000}",
+               initialDelayString = "${jwt.revocation.prune-interval:600000}")
+    public void prune() {
+        Instant now = Instant.now();
+        int pruned = revokedTokens.prune(now);
+        int deleted = revokedTokensRepository.deleteExpired(now);
+        if (pruned > 0 || deleted > 0) {
+            log.info("Pruned {} revoked tokens from memory, {} from database", pruned, deleted);
+        }
+    }
+}
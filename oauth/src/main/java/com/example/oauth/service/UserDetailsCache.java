@@ -0,0 +1,108 @@
+package com.example.oauth.service;
+
+import com.example.oauth.security.AuthUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * CustomUserDetailsService 앞단의 유저/권한 캐시 (DaoAuthenticationProvider.setUserCache로 연결)
+ * - 캐시에 있으면 DB 조회 없이 인증, 비밀번호가 틀리면 DaoAuthenticationProvider가 DB에서 다시 읽어 재확인
+ * - 크기(auth.user-cache.max-size)와 TTL(auth.user-cache.ttl)로 제거
+ * - 유저/롤 저장 시 UserCacheInvalidationListener, 유저의 롤 연결 변경 시 UserRolesChangeListener가
+ *   커밋된 뒤에 해당 항목(또는 전체)을 비움
+ *
+ * 인증 성공 후 ProviderManager가 principal의 비밀번호를 지우기 때문에(eraseCredentials)
+ * 캐시에는 복사본을 넣고, 꺼낼 때도 복사본을 돌려준다.
+ */
+@Component
+public class UserDetailsCache implements UserCache {
+
+    private final boolean enabled;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${auth.user-cache.enabled:true}") boolean enabled,
+                            @Value("${auth.user-cache.max-size:10000}") long maxSize,
+                            @Value("${auth.user-cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        if (!enabled) {
+            return null;
+        }
+        UserDetails cached = cache.getIfPresent(username);
+        return cached == null ? null : copyOf(cached);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (enabled) {
+            cache.put(user.getUsername(), copyOf(user));
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * 전체 비우기 (롤 변경 시 어떤 유저가 영향을 받는지 모르므로 전부 제거)
+     */
+    public void removeAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 제거
+     * - flush 시점에 바로 지우면 커밋 전에 들어온 로그인이 아직 커밋된 이전 행을 읽어 다시 캐시에 넣고
+     *   TTL 동안 이전 비밀번호 / 권한이 남음
+     */
+    public void removeUserAfterCommit(String username) {
+        afterCommit(() -> removeUserFromCache(username));
+    }
+
+    public void removeAllAfterCommit() {
+        afterCommit(this::removeAll);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private static UserDetails copyOf(UserDetails user) {
+        if (user instanceof AuthUserDetails authUser) {
+            return authUser.withPassword(authUser.getPassword());
+        }
+        return User.withUserDetails(user).build();
+    }
+}
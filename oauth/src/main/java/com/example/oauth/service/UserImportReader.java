@@ -0,0 +1,182 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.UserImportRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 대량 가입 파일을 한 줄씩 읽는 리더 (파일 전체를 메모리에 올리지 않음)
+ * - .csv : 첫 줄은 헤더 (email 또는 username, password, name, roles), roles는 '|'로 구분
+ *          따옴표로 감싼 필드("a,b")와 따옴표 이스케이프("")를 지원, 필드 안 줄바꿈은 미지원
+ * - .ndjson / .jsonl : 한 줄에 JSON 객체 하나 {"email":..., "password":..., "name":..., "roles":[...]}
+ * - 형식이 잘못된 줄은 건너뛰고 getMalformedCount()로 집계
+ */
+@Slf4j
+public class UserImportReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final LineParser parser;
+    private long lineNumber;
+    private long malformedCount;
+
+    private UserImportReader(BufferedReader reader, LineParser parser) {
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    /**
+     * 확장자로 형식 판단해서 열기
+     */
+    public static UserImportReader open(Path file, ObjectMapper objectMapper) throws IOException {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        if (fileName.endsWith(".csv")) {
+            return csv(reader);
+        }
+        if (fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")) {
+            return ndjson(reader, objectMapper);
+        }
+        reader.close();
+        throw new IllegalArgumentException("Unsupported import file (expected .csv, .ndjson or .jsonl): " + file);
+    }
+
+    static UserImportReader csv(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return new UserImportReader(reader, line -> null);
+        }
+        return new UserImportReader(reader, new CsvLineParser(parseCsvLine(stripBom(header))));
+    }
+
+    static UserImportReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        ObjectReader recordReader = objectMapper.readerFor(UserImportRecord.class);
+        return new UserImportReader(reader, line -> recordReader.readValue(line));
+    }
+
+    /**
+     * 최대 maxSize개 읽기
+     * @return 파일 끝이면 빈 목록
+     */
+    public List<UserImportRecord> next(int maxSize) throws IOException {
+        List<UserImportRecord> records = new ArrayList<>(maxSize);
+        String line;
+        while (records.size() < maxSize && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                UserImportRecord parsed = parser.parse(line);
+                if (parsed != null) {
+                    records.add(parsed);
+                }
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                malformedCount++;
+                log.warn("Skipping malformed import line {}: {}", lineNumber, e.getMessage());
+            }
+        }
+        return records;
+    }
+
+    public long getMalformedCount() {
+        return malformedCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        UserImportRecord parse(String line) throws JsonProcessingException;
+    }
+
+    private static final class CsvLineParser implements LineParser {
+
+        private final int emailIndex;
+        private final int passwordIndex;
+        private final int nameIndex;
+        private final int rolesIndex;
+
+        CsvLineParser(List<String> header) {
+            List<String> columns = header.stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+            int email = columns.indexOf("email");
+            this.emailIndex = email >= 0 ? email : columns.indexOf("username");
+            this.passwordIndex = columns.indexOf("password");
+            this.nameIndex = columns.indexOf("name");
+            this.rolesIndex = columns.indexOf("roles");
+            if (emailIndex < 0 || passwordIndex < 0) {
+                throw new IllegalArgumentException("CSV header must contain email (or username) and password: " + header);
+            }
+        }
+
+        @Override
+        public UserImportRecord parse(String line) {
+            List<String> fields = parseCsvLine(line);
+            List<String> roles = field(fields, rolesIndex) == null
+                    ? List.of()
+                    : Arrays.stream(field(fields, rolesIndex).split("\\|"))
+                            .map(String::trim)
+                            .filter(role -> !role.isEmpty())
+                            .toList();
+            return new UserImportRecord(field(fields, emailIndex), field(fields, passwordIndex),
+                    field(fields, nameIndex), roles);
+        }
+
+        private static String field(List<String> fields, int index) {
+            if (index < 0 || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String stripBom(String header) {
+        return header.startsWith("\uFEFF") ? header.substring(1) : header;
+    }
+}
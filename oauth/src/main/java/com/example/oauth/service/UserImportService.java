@@ -0,0 +1,266 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.UserImportRecord;
+import com.example.oauth.dto.UserImportResult;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.security.BoundedPasswordEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 가입 (CSV / NDJSON 파일 → auth_users, auth_users_roles)
+ * - 파일은 auth.import.batch-size 행씩 읽어서 처리 (메모리에는 최대 2청크)
+ * - 비밀번호 해시는 로그인용 풀과 별도인 고정 크기 풀에서 병렬 계산, 청크 N을 저장하는 동안 청크 N+1을 해시
+ * - 저장은 청크당 트랜잭션 1개 + persist / flush / clear → Hibernate JDBC 배치 INSERT
+ *   (AuthUsersEntity ID는 시퀀스(allocationSize 50)라서 INSERT 전에 ID를 알 수 있어 배치가 가능)
+ * - 이미 있는 username은 청크마다 IN 쿼리 1번으로 걸러서 건너뜀
+ * - 청크 저장 중 DB 오류(컬럼 길이 초과, 동시 가입으로 인한 중복 등)가 나면 그 청크만 행 단위 트랜잭션으로 다시 저장
+ *   → 문제 행만 failed로 세고 다음 청크 계속 (집계는 커밋된 뒤에만 반영)
+ * - 진행 상황(처리 수, 초당 처리량)은 5초마다 로그
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+    private static final long PROGRESS_INTERVAL_NANOS = Duration.ofSeconds(5).toNanos();
+
+    private final AuthUsersRepository authUsersRepository;
+    private final RoleCatalog roleCatalog;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int hashThreads;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public UserImportService(AuthUsersRepository authUsersRepository,
+                             RoleCatalog roleCatalog,
+                             BoundedPasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${auth.import.batch-size:500}") int batchSize,
+                             @Value("${auth.import.hash-threads:0}") int hashThreads) {
+        this.authUsersRepository = authUsersRepository;
+        this.roleCatalog = roleCatalog;
+        // 로그인용 풀/큐를 차지하지 않도록 원본 인코더를 받아서 import 전용 풀에서 실행
+        this.passwordEncoder = passwordEncoder.getDelegate();
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.hashThreads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 가입 대상 한 명 (검증 + 해시 완료)
+     */
+    private record PreparedUser(UserImportRecord record, String passwordHash, List<Integer> roleIds) {
+    }
+
+    public UserImportResult importUsers(Path file) throws IOException {
+        Progress progress = new Progress();
+        ThreadPoolExecutor hashPool = new ThreadPoolExecutor(
+                hashThreads, hashThreads,
+                0L, TimeUnit.MILLISECONDS,
+                // 청크 2개까지 대기, 넘치면 읽는 스레드가 직접 해시 (자연스러운 배압)
+                new ArrayBlockingQueue<>(batchSize * 2),
+                new ImportThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        log.info("Importing users from {} (batch size {}, {} hash threads)", file, batchSize, hashThreads);
+        try (UserImportReader reader = UserImportReader.open(file, objectMapper)) {
+            List<CompletableFuture<PreparedUser>> pending = List.of();
+            List<UserImportRecord> chunk;
+            while (!(chunk = reader.next(batchSize)).isEmpty()) {
+                progress.read += chunk.size();
+                // 다음 청크 해시를 먼저 걸어두고, 그동안 이전 청크 저장
+                List<CompletableFuture<PreparedUser>> hashing = prepare(chunk, hashPool, progress);
+                write(pending, progress);
+                pending = hashing;
+                progress.logIfDue(reader.getMalformedCount());
+            }
+            write(pending, progress);
+            progress.failed += reader.getMalformedCount();
+            progress.read += reader.getMalformedCount();
+        } finally {
+            hashPool.shutdownNow();
+        }
+
+        UserImportResult result = progress.toResult();
+        log.info("Import finished: read {}, imported {}, skipped {}, failed {} in {} ms ({} rows/s)",
+                result.read(), result.imported(), result.skipped(), result.failed(),
+                result.elapsed().toMillis(), String.format("%.0f", result.throughput()));
+        return result;
+    }
+
+    /**
+     * 필수값 / 롤 검증 (읽는 스레드) 후 비밀번호 해시 작업 제출
+     * - 같은 청크 안 중복 username은 첫 번째만 사용
+     */
+    private List<CompletableFuture<PreparedUser>> prepare(List<UserImportRecord> chunk,
+                                                         ExecutorService hashPool,
+                                                         Progress progress) {
+        Set<String> usernames = new HashSet<>();
+        List<CompletableFuture<PreparedUser>> prepared = new ArrayList<>(chunk.size());
+        for (UserImportRecord record : chunk) {
+            if (record.email() == null || record.password() == null) {
+                progress.failed++;
+                continue;
+            }
+            if (!usernames.add(record.email())) {
+                progress.skipped++;
+                continue;
+            }
+            List<Integer> roleIds = new ArrayList<>(record.roles().size());
+            for (String roleName : record.roles()) {
+                Optional<RoleCatalog.Role> role = roleCatalog.findByName(roleName);
+                if (role.isEmpty()) {
+                    roleIds = null;
+                    break;
+                }
+                roleIds.add(role.get().roleId());
+            }
+            if (roleIds == null) {
+                log.warn("Skipping {}: unknown role in {}", record.email(), record.roles());
+                progress.failed++;
+                continue;
+            }
+
+            List<Integer> resolvedRoleIds = roleIds;
+            prepared.add(CompletableFuture.supplyAsync(
+                    () -> new PreparedUser(record, hash(record.password()), resolvedRoleIds), hashPool));
+        }
+        return prepared;
+    }
+
+    private String hash(String password) {
+        // 다른 시스템에서 옮겨오는 BCrypt 해시는 그대로 사용 (로그인 시 strength가 낮으면 자동 재해시)
+        return password.startsWith(BCRYPT_PREFIX) ? password : passwordEncoder.encode(password);
+    }
+
+    /**
+     * 한 청크 저장 (트랜잭션 1개, JDBC 배치 INSERT)
+     * - 청크가 롤백되면 행마다 트랜잭션 1개로 다시 저장해서 실패한 행만 failed로 셈
+     */
+    private void write(List<CompletableFuture<PreparedUser>> hashing, Progress progress) {
+        if (hashing.isEmpty()) {
+            return;
+        }
+        List<PreparedUser> users = hashing.stream().map(CompletableFuture::join).toList();
+
+        try {
+            insert(users).addTo(progress);
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("Chunk of {} rows rolled back, retrying row by row: {}", users.size(), e.getMessage());
+            for (PreparedUser user : users) {
+                try {
+                    insert(List.of(user)).addTo(progress);
+                } catch (DataAccessException | PersistenceException rowError) {
+                    log.warn("Skipping {}: {}", user.record().email(), rowError.getMessage());
+                    progress.failed++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 1개로 저장 → 커밋된 경우에만 결과 반환
+     */
+    private ChunkResult insert(List<PreparedUser> users) {
+        return transactionTemplate.execute(status -> {
+            Set<String> existing = authUsersRepository.findExistingUsernames(
+                    users.stream().map(user -> user.record().email()).toList());
+
+            int imported = 0;
+            int skipped = 0;
+            for (PreparedUser user : users) {
+                if (existing.contains(user.record().email())) {
+                    skipped++;
+                    continue;
+                }
+                AuthUsersEntity entity = AuthUsersEntity.builder()
+                        .username(user.record().email())
+                        .password(user.passwordHash())
+                        .name(user.record().name())
+                        .build();
+                for (Integer roleId : user.roleIds()) {
+                    // 연결 테이블에는 Role_ID만 필요 → 프록시 참조 (SELECT 없음)
+                    entity.getRoles().add(entityManager.getReference(AuthRolesEntity.class, roleId));
+                }
+                entityManager.persist(entity);
+                imported++;
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return new ChunkResult(imported, skipped);
+        });
+    }
+
+    private record ChunkResult(int imported, int skipped) {
+
+        void addTo(Progress progress) {
+            progress.imported += imported;
+            progress.skipped += skipped;
+        }
+    }
+
+    /**
+     * 진행 상황 (읽는 스레드에서만 갱신)
+     */
+    private static final class Progress {
+
+        private final long startedAt = System.nanoTime();
+        private long lastLoggedAt = startedAt;
+        private long read;
+        private long imported;
+        private long skipped;
+        private long failed;
+
+        void logIfDue(long malformed) {
+            long now = System.nanoTime();
+            if (now - lastLoggedAt < PROGRESS_INTERVAL_NANOS) {
+                return;
+            }
+            lastLoggedAt = now;
+            double seconds = (now - startedAt) / 1_000_000_000.0;
+            log.info("Import progress: read {}, imported {}, skipped {}, failed {} ({} rows/s)",
+                    read + malformed, imported, skipped, failed + malformed, String.format("%.0f", read / seconds));
+        }
+
+        UserImportResult toResult() {
+            return new UserImportResult(read, imported, skipped, failed, Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    private static final class ImportThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
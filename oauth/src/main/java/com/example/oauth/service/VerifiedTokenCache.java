@@ -0,0 +1,144 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시
+ * - 키: 토큰 원문 대신 SHA-256 다이제스트 (토큰 원문을 메모리에 들고 있지 않음)
+ * - 만료: 각 항목은 토큰의 exp 시각이 지나면 사라짐 (exp를 넘겨서 살아있지 않음)
+ * - 크기: jwt.cache.max-size를 넘으면 Caffeine 정책에 따라 제거
+ * - jwt.cache.enabled=false면 캐시를 거치지 않고 바로 검증
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this(enabled, maxSize, Ticker.systemTicker());
+    }
+
+    /**
+     * @param ticker 캐시 시간 기준 (테스트에서는 가짜 ticker로 만료를 재현)
+     */
+    VerifiedTokenCache(boolean enabled, long maxSize, Ticker ticker) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfter(new ExpireAtTokenExp(ticker))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환, 없으면 verifier로 검증 후 저장
+     * - verifier에서 예외가 나면 저장하지 않고 그대로 던짐
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * 캐시 전체 비우기 (키 교체 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 키 링에서 키가 빠지면 그 키로 검증된 항목이 남지 않도록 비움
+     * - 키가 추가만 된 경우에는 기존 항목이 여전히 유효하므로 유지
+     */
+    @EventListener
+    public void onKeysRotated(JwtKeysRotatedEvent event) {
+        if (!event.removedKids().isEmpty()) {
+            invalidateAll();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * hit / miss / eviction 카운터
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 기본 제공
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 항목별 만료 시간 = 토큰 exp - 현재 시각 (ns)
+     * - 현재 시각은 Caffeine이 넘겨주는 currentTime(ticker 기준)을 epoch로 환산해서 사용
+     *   → 캐시 만료 판단과 같은 시간 기준, 가짜 ticker로 테스트 가능
+     * - exp가 없는 토큰은 바로 만료시켜 캐시에 남기지 않음
+     */
+    private static final class ExpireAtTokenExp implements Expiry<String, VerifiedToken> {
+
+        // epoch ns - ticker ns (생성 시 한 번 계산)
+        private final long epochOffsetNanos;
+
+        ExpireAtTokenExp(Ticker ticker) {
+            this.epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - ticker.read();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Instant expiration = value.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long expirationNanos = TimeUnit.MILLISECONDS.toNanos(expiration.toEpochMilli());
+            return Math.max(expirationNanos - (currentTime + epochOffsetNanos), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- 기존 스키마 (Hibernate ddl-auto로 만들어지던 테이블 그대로)
+-- 이미 운영 중인 DB는 baseline-on-migrate로 이 버전을 건너뜀 (application-prod.properties)
+
+CREATE TABLE auth_users (
+    user_id  INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    password VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) UNIQUE,
+    name     VARCHAR(255)
+);
+
+CREATE TABLE auth_roles (
+    role_id      INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    role_name    VARCHAR(255),
+    service_name VARCHAR(255)
+);
+
+CREATE TABLE auth_users_roles (
+    user_id INTEGER NOT NULL REFERENCES auth_users (user_id),
+    role_id INTEGER NOT NULL REFERENCES auth_roles (role_id),
+    PRIMARY KEY (user_id, role_id)
+);
@@ -0,0 +1,9 @@
+-- auth_users.User_ID : IDENTITY → 시퀀스 (allocationSize 50, JDBC 배치 INSERT용)
+--
+-- Hibernate pooled 옵티마이저는 nextval 값을 구간의 끝으로 보고 (값 - 49) ~ 값 범위의 ID를 씀
+-- → 다음 nextval이 MAX(User_ID) + 50을 돌려주도록 맞춰야 첫 구간이 MAX(User_ID) + 1부터 시작해서 기존 ID와 겹치지 않음
+CREATE SEQUENCE auth_users_seq INCREMENT BY 50;
+SELECT setval('auth_users_seq', (SELECT COALESCE(MAX(user_id), 0) + 50 FROM auth_users), false);
+
+-- ID는 애플리케이션이 시퀀스로 채우므로 IDENTITY 기본값은 제거
+ALTER TABLE auth_users ALTER COLUMN user_id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,8 @@
+-- 소셜 로그인 프로필 (닉네임 / 프로필 이미지)
+ALTER TABLE auth_users ADD COLUMN nickname VARCHAR(255);
+ALTER TABLE auth_users ADD COLUMN profile_image VARCHAR(1000);
+
+-- Role_Name으로 롤을 찾으므로 (RoleCatalog, 압축 토큰 사전) 이름은 필수 + 중복 불가
+-- 기존 데이터에 이름 없는 롤이나 같은 이름의 롤이 있으면 이 단계에서 실패하므로 먼저 정리
+ALTER TABLE auth_roles ALTER COLUMN role_name SET NOT NULL;
+ALTER TABLE auth_roles ADD CONSTRAINT uk_auth_roles_role_name UNIQUE (role_name);
@@ -0,0 +1,13 @@
+-- 리프레시 토큰 (원문 대신 SHA-256 해시만 저장, 같은 로그인에서 이어지는 토큰은 같은 Family_ID)
+CREATE TABLE auth_refresh_tokens (
+    refresh_token_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash       VARCHAR(64)                 NOT NULL UNIQUE,
+    family_id        VARCHAR(36)                 NOT NULL,
+    user_id          INTEGER                     NOT NULL REFERENCES auth_users (user_id),
+    created_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    used_at          TIMESTAMP(6) WITH TIME ZONE,
+    revoked          BOOLEAN                     NOT NULL
+);
+
+CREATE INDEX idx_auth_refresh_tokens_family ON auth_refresh_tokens (family_id);
@@ -0,0 +1,10 @@
+-- exp 전에 폐기된 액세스 토큰의 jti (만료 후 주기적으로 삭제)
+CREATE TABLE auth_revoked_tokens (
+    revoked_token_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_id         VARCHAR(36)                 NOT NULL UNIQUE,
+    expires_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_auth_revoked_tokens_revoked_at ON auth_revoked_tokens (revoked_at);
+CREATE INDEX idx_auth_revoked_tokens_expires_at ON auth_revoked_tokens (expires_at);
@@ -0,0 +1,10 @@
+-- 소셜 계정(Provider + Provider 고유 ID) → auth_users
+-- AuthUserIdentitiesRepository.upsert의 ON CONFLICT (Provider, Provider_User_ID)가 이 PK를 사용
+CREATE TABLE auth_user_identities (
+    provider         VARCHAR(20)  NOT NULL,
+    provider_user_id VARCHAR(100) NOT NULL,
+    user_id          INTEGER      NOT NULL REFERENCES auth_users (user_id),
+    PRIMARY KEY (provider, provider_user_id)
+);
+
+CREATE INDEX idx_auth_user_identities_user ON auth_user_identities (user_id);
@@ -0,0 +1,186 @@
+package com.example.oauth;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.dto.VerifiedToken;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.config.OAuth2ClientHttpConfig;
+import com.example.oauth.security.BoundedPasswordEncoder;
+import com.example.oauth.security.GoogleUserInfoExtractor;
+import com.example.oauth.security.LoadSheddingAuthenticationProvider;
+import com.example.oauth.security.OAuth2UserInfoExtractors;
+import com.example.oauth.security.SocialOAuth2User;
+import com.example.oauth.security.SocialOAuth2UserService;
+import com.example.oauth.service.*;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가상 스레드 실행 모드(spring.threads.virtual.enabled=true) 검증
+ * - 폼 로그인 경로(BCrypt 풀 + 유저 캐시 + JWT 발급/검증)에서 pinning이 없는지 JFR 이벤트로 확인
+ *   저장소는 Mockito 목이므로 JDBC 드라이버(pgjdbc) / HikariCP 구간은 검증 범위 밖
+ * - 소셜 로그인 사용자 정보 조회(SocialOAuth2UserService + 커넥션 풀 클라이언트)를
+ *   로컬 스텁 Provider 상대로 동시에 많이 처리해도 플랫폼 스레드가 늘지 않는지 확인
+ */
+class VirtualThreadModeTests {
+
+    private static final String SECRET = "THIS_IS_SECRET_KEY_FOR_JWT_1234567890";
+
+    @Test
+    void loginPathDoesNotPinCarrierThreads() throws Exception {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(delegating, 2, 1000, Duration.ofSeconds(30));
+
+        AuthUsersEntity user = AuthUsersEntity.builder()
+                .userId(1)
+                .username("testuser@example.com")
+                .password(delegating.encode("1234"))
+                .build();
+        user.getRoles().add(AuthRolesEntity.builder().roleId(1).roleName("ROLE_USER").serviceName("common").build());
+
+        AuthUsersRepository repository = mock(AuthUsersRepository.class);
+        when(repository.findCredentialsByUsername("testuser@example.com"))
+                .thenReturn(Optional.of(AuthUserCredentials.from(user)));
+
+        UserDetailsCache userDetailsCache = new UserDetailsCache(true, 100, Duration.ofMinutes(10));
+        DaoAuthenticationProvider provider = new LoadSheddingAuthenticationProvider();
+        provider.setUserDetailsService(new CustomUserDetailsService(repository, userDetailsCache));
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserCache(userDetailsCache);
+        AuthenticationManager authenticationManager = new ProviderManager(provider);
+
+        JwtService jwtService = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(true, 100), new RevokedTokenSet(1000), RoleClaimCodec.standard(), 3600000);
+
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable("jdk.VirtualThreadPinned").withoutThreshold();
+            stream.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            stream.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<VerifiedToken>> results = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    results.add(executor.submit(() -> {
+                        Authentication authentication = authenticationManager.authenticate(
+                                new UsernamePasswordAuthenticationToken("testuser@example.com", "1234"));
+                        return jwtService.verify(jwtService.createToken(authentication));
+                    }));
+                }
+                for (Future<VerifiedToken> result : results) {
+                    assertThat(result.get(30, TimeUnit.SECONDS).getSubject()).isEqualTo("testuser@example.com");
+                }
+            }
+            stream.stop();
+        } finally {
+            passwordEncoder.destroy();
+        }
+
+        assertThat(pinned).isEmpty();
+    }
+
+    @Test
+    void concurrentOAuthCallbacksDoNotExhaustPlatformThreads() throws Exception {
+        int callbacks = 500;
+
+        // 구글/카카오 user-info 엔드포인트 대신 200ms 늦게 응답하는 로컬 스텁
+        HttpServer stubProvider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), callbacks * 2);
+        stubProvider.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubProvider.createContext("/userinfo", exchange -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"sub\":\"1175547227\",\"email\":\"user@example.com\",\"email_verified\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubProvider.start();
+        String baseUrl = "http://127.0.0.1:" + stubProvider.getAddress().getPort();
+        ClientRegistration registration = ClientRegistration.withRegistrationId("google")
+                .clientId("client")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost/login/oauth2/code/google")
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .userInfoUri(baseUrl + "/userinfo")
+                .userNameAttributeName("sub")
+                .build();
+
+        // 운영과 같은 커넥션 풀 클라이언트 (풀 한도는 동시 콜백 수에 맞춤, 캐시는 끔)
+        CloseableHttpClient httpClient = OAuth2ClientHttpConfig.createHttpClient(callbacks, callbacks,
+                Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(30));
+        SocialOAuth2UserService userService = new SocialOAuth2UserService(
+                new OAuth2UserInfoExtractors(List.of(new GoogleUserInfoExtractor())),
+                OAuth2ClientHttpConfig.userInfoRestTemplate(httpClient, new SimpleMeterRegistry()),
+                Duration.ZERO, 100);
+
+        // spring.threads.virtual.enabled=true일 때 스프링 부트가 구성하는 것과 같은 가상 스레드 실행기
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("oauth-callback-");
+        executor.setVirtualThreads(true);
+
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        int platformThreadsBefore = threadMXBean.getThreadCount();
+        threadMXBean.resetPeakThreadCount();
+
+        try {
+            List<CompletableFuture<SocialOAuth2User>> results = new ArrayList<>();
+            for (int i = 0; i < callbacks; i++) {
+                OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+                        "at-" + i, Instant.now(), Instant.now().plusSeconds(3600));
+                results.add(CompletableFuture.supplyAsync(() -> (SocialOAuth2User) userService.loadUser(
+                        new OAuth2UserRequest(registration, accessToken)), executor));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+
+            assertThat(results).allSatisfy(result ->
+                    assertThat(result.join().getUserInfo().email()).isEqualTo("user@example.com"));
+        } finally {
+            httpClient.close();
+            stubProvider.stop(0);
+        }
+
+        // 동시 콜백 수만큼 플랫폼 스레드가 늘지 않음 (캐리어 스레드 수 정도만 증가)
+        int platformThreadsPeak = threadMXBean.getPeakThreadCount();
+        assertThat(platformThreadsPeak - platformThreadsBefore).isLessThan(callbacks / 5);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.oauth.config;
+
+import com.example.oauth.security.GoogleUserInfoExtractor;
+import com.example.oauth.security.OAuth2ClientTimingInterceptor;
+import com.example.oauth.security.OAuth2UserInfoExtractors;
+import com.example.oauth.security.SocialOAuth2User;
+import com.example.oauth.security.SocialOAuth2UserService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 Provider(JDK HttpServer)를 상대로 소셜 로그인 서버 간 호출 확인
+ * - 토큰 교환 + 사용자 정보 조회가 keep-alive 커넥션을 재사용하는지
+ * - 호출 지연 시간 지표 / 사용자 정보 캐시 (ttl을 켠 경우만)
+ */
+class OAuth2ClientHttpConfigTest {
+
+    private static final String REDIRECT_URI = "http://localhost/login/oauth2/code/google";
+
+    private HttpServer provider;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicInteger userInfoCalls = new AtomicInteger();
+
+    private CloseableHttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+    private ClientRegistration registration;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        provider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        provider.createContext("/token", exchange -> respond(exchange,
+                "{\"access_token\":\"at-" + tokenCalls.incrementAndGet()
+                        + "\",\"token_type\":\"Bearer\",\"expires_in\":3600}"));
+        provider.createContext("/userinfo", exchange -> {
+            userInfoCalls.incrementAndGet();
+            respond(exchange, "{\"sub\":\"1175547227\",\"email\":\"user@gmail.com\",\"email_verified\":true,\"name\":\"홍길동\"}");
+        });
+        provider.start();
+
+        String baseUrl = "http://127.0.0.1:" + provider.getAddress().getPort();
+        registration = ClientRegistration.withRegistrationId("google")
+                .clientId("client")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri(REDIRECT_URI)
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .userInfoUri(baseUrl + "/userinfo")
+                .userNameAttributeName("sub")
+                .build();
+
+        httpClient = OAuth2ClientHttpConfig.createHttpClient(10, 10,
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        provider.stop(0);
+    }
+
+    @Test
+    void callbackCallsReusePooledConnections() {
+        DefaultAuthorizationCodeTokenResponseClient tokenClient = new DefaultAuthorizationCodeTokenResponseClient();
+        tokenClient.setRestOperations(OAuth2ClientHttpConfig.tokenRestTemplate(httpClient, meterRegistry));
+        SocialOAuth2UserService userService = userService(Duration.ZERO);
+
+        int logins = 20;
+        for (int i = 0; i < logins; i++) {
+            OAuth2AccessTokenResponse tokenResponse = tokenClient.getTokenResponse(grantRequest());
+            SocialOAuth2User user = (SocialOAuth2User) userService.loadUser(
+                    new OAuth2UserRequest(registration, tokenResponse.getAccessToken()));
+            assertThat(user.getUserInfo().email()).isEqualTo("user@gmail.com");
+        }
+
+        // 순차 호출이므로 매번 새로 연결하지 않고 풀의 커넥션을 재사용
+        assertThat(clientPorts.size()).isLessThan(logins);
+
+        Timer token = meterRegistry.get(OAuth2ClientTimingInterceptor.METRIC_NAME).tag("endpoint", "token").timer();
+        Timer userInfo = meterRegistry.get(OAuth2ClientTimingInterceptor.METRIC_NAME).tag("endpoint", "user-info").timer();
+        assertThat(token.count()).isEqualTo(logins);
+        assertThat(userInfo.count()).isEqualTo(logins);
+    }
+
+    @Test
+    void userInfoIsNotCachedWhenTtlIsZero() {
+        SocialOAuth2UserService userService = userService(Duration.ZERO);
+        OAuth2UserRequest request = new OAuth2UserRequest(registration, new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER, "at-uncached", Instant.now(), Instant.now().plusSeconds(3600)));
+
+        userService.loadUser(request);
+        userService.loadUser(request);
+
+        assertThat(userInfoCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void userInfoIsCachedPerAccessToken() {
+        SocialOAuth2UserService userService = userService(Duration.ofSeconds(60));
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+                "at-cached", Instant.now(), Instant.now().plusSeconds(3600));
+        OAuth2UserRequest request = new OAuth2UserRequest(registration, accessToken);
+
+        userService.loadUser(request);
+        userService.loadUser(request);
+
+        assertThat(userInfoCalls.get()).isEqualTo(1);
+    }
+
+    private SocialOAuth2UserService userService(Duration cacheTtl) {
+        return new SocialOAuth2UserService(
+                new OAuth2UserInfoExtractors(List.of(new GoogleUserInfoExtractor())),
+                OAuth2ClientHttpConfig.userInfoRestTemplate(httpClient, meterRegistry),
+                cacheTtl, 100);
+    }
+
+    private OAuth2AuthorizationCodeGrantRequest grantRequest() {
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .clientId("client")
+                .authorizationUri(registration.getProviderDetails().getAuthorizationUri())
+                .redirectUri(REDIRECT_URI)
+                .state("state")
+                .build();
+        OAuth2AuthorizationResponse authorizationResponse = OAuth2AuthorizationResponse.success("code")
+                .redirectUri(REDIRECT_URI)
+                .state("state")
+                .build();
+        return new OAuth2AuthorizationCodeGrantRequest(registration,
+                new OAuth2AuthorizationExchange(authorizationRequest, authorizationResponse));
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.oauth.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.example.oauth.security.TokenFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * auth.events 샘플링 필터 / 토큰 지문 테스트
+ */
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggerName("auth.events");
+        filter.setSampleRate(0.0);
+        filter.start();
+    }
+
+    @Test
+    void dropsSampledInfoButKeepsWarnings() {
+        assertThat(filter.decide(null, context.getLogger("auth.events"), Level.INFO, "login", null, null))
+                .isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, context.getLogger("auth.events"), Level.WARN, "login", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void leavesOtherLoggersAlone() {
+        assertThat(filter.decide(null, context.getLogger("auth.eventsource"), Level.INFO, "x", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, context.getLogger("com.example.oauth"), Level.INFO, "x", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void fingerprintDoesNotExposeToken() {
+        String token = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ0ZXN0dXNlciJ9.signature";
+
+        assertThat(TokenFingerprint.of(token).toString())
+                .hasSize(12)
+                .isEqualTo(TokenFingerprint.of(token).toString())
+                .isNotEqualTo(token.substring(0, 12));
+        // 로그 이벤트 인자로 넘어가는 객체에는 해시된 지문만 보관
+        assertThat(TokenFingerprint.of(token)).extracting("fingerprint")
+                .isEqualTo(TokenFingerprint.of(token).toString());
+    }
+}
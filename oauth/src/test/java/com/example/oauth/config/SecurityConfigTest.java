@@ -0,0 +1,130 @@
+package com.example.oauth.config;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.service.JwtService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * API / 관리 엔드포인트 접근 제어
+ * - 토큰 일괄 검사(/auth/introspect/batch): 익명 호출은 로그인 페이지 리다이렉트 대신 401, 롤이 없는 토큰은 403
+ * - 지표(/actuator/metrics, /actuator/prometheus): 관리 포트가 아닌 앱 포트에서는 인증 필요
+ * - 폼 로그인(POST /auth/login-page)도 auth.login / auth.login.failures 기록 (method=form)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AuthUsersRepository authUsersRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void anonymousCallerIsRejected() throws Exception {
+        mockMvc.perform(post("/auth/introspect/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"t\"]"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void callerWithoutIntrospectorRoleIsForbidden() throws Exception {
+        mockMvc.perform(post("/auth/introspect/batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("ROLE_USER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"t\"]"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void serviceAccountWithIntrospectorRoleIsAllowed() throws Exception {
+        mockMvc.perform(post("/auth/introspect/batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("ROLE_TOKEN_INTROSPECTOR"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"t\"]"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsRequireAuthenticationOnApplicationPort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void formLoginSuccessIsMeasured() throws Exception {
+        authUsersRepository.save(AuthUsersEntity.builder()
+                .username("form@example.com")
+                .password(passwordEncoder.encode("1234"))
+                .build());
+        long before = formLoginCount("success");
+
+        mockMvc.perform(post("/auth/login-page").param("username", "form@example.com").param("password", "1234"))
+                .andExpect(redirectedUrl("/auth/success"));
+
+        assertThat(formLoginCount("success")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void formLoginFailureIsMeasured() throws Exception {
+        long before = formLoginCount("failure");
+        Counter failures = meterRegistry.find("auth.login.failures")
+                .tag("method", "form").tag("reason", "bad_password").counter();
+        double failuresBefore = failures == null ? 0 : failures.count();
+
+        mockMvc.perform(post("/auth/login-page").param("username", "nobody@example.com").param("password", "wrong"))
+                .andExpect(redirectedUrl("/auth/login-page?error"));
+
+        assertThat(formLoginCount("failure")).isEqualTo(before + 1);
+        assertThat(meterRegistry.get("auth.login.failures")
+                .tag("method", "form").tag("reason", "bad_password").counter().count())
+                .isEqualTo(failuresBefore + 1);
+    }
+
+    private long formLoginCount(String outcome) {
+        Timer timer = meterRegistry.find("auth.login").tag("method", "form").tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private String token(String roleName) {
+        AuthUsersEntity user = AuthUsersEntity.builder()
+                .userId(1)
+                .username("gateway@example.com")
+                .password("{noop}unused")
+                .build();
+        user.getRoles().add(AuthRolesEntity.builder().roleId(1).roleName(roleName).serviceName("common").build());
+        return jwtService.createToken(AuthUserCredentials.from(user));
+    }
+}
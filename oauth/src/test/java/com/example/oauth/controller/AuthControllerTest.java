@@ -0,0 +1,188 @@
+package com.example.oauth.controller;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.service.AuthMetrics;
+import com.example.oauth.service.CustomUserDetailsService;
+import com.example.oauth.service.JwtKeyManager;
+import com.example.oauth.service.JwtService;
+import com.example.oauth.service.RefreshTokenService;
+import com.example.oauth.service.RevokedTokenSet;
+import com.example.oauth.service.RoleClaimCodec;
+import com.example.oauth.service.SocialUserService;
+import com.example.oauth.service.TokenIntrospectionService;
+import com.example.oauth.service.TokenRevocationService;
+import com.example.oauth.service.UserDetailsCache;
+import com.example.oauth.service.VerifiedTokenCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * AuthController 단위 테스트 (DB 대신 Mockito 리포지토리 사용)
+ */
+class AuthControllerTest {
+
+    private static final String SECRET = "THIS_IS_SECRET_KEY_FOR_JWT_1234567890";
+
+    private AuthUsersRepository authUsersRepository;
+    private JwtService jwtService;
+    private RefreshTokenService refreshTokenService;
+    private AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+        AuthUsersEntity user = AuthUsersEntity.builder()
+                .userId(1)
+                .username("testuser@example.com")
+                .password(passwordEncoder.encode("1234"))
+                .build();
+        user.getRoles().add(AuthRolesEntity.builder().roleId(1).roleName("ROLE_USER").serviceName("common").build());
+
+        authUsersRepository = mock(AuthUsersRepository.class);
+        when(authUsersRepository.findCredentialsByUsername(anyString())).thenReturn(Optional.empty());
+        when(authUsersRepository.findCredentialsByUsername("testuser@example.com"))
+                .thenReturn(Optional.of(AuthUserCredentials.from(user)));
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(new CustomUserDetailsService(authUsersRepository,
+                new UserDetailsCache(false, 0, Duration.ofMinutes(10))));
+        provider.setPasswordEncoder(passwordEncoder);
+
+        jwtService = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0), new RevokedTokenSet(1000), RoleClaimCodec.standard(), 3600000);
+        refreshTokenService = mock(RefreshTokenService.class);
+        when(refreshTokenService.issue(1)).thenReturn("opaque-refresh-token");
+        when(refreshTokenService.getRefreshValidityInSeconds()).thenReturn(1209600L);
+
+        authController = new AuthController(new ProviderManager(provider), jwtService, authUsersRepository,
+                refreshTokenService, mock(SocialUserService.class), mock(TokenRevocationService.class),
+                new TokenIntrospectionService(jwtService, 500, 4096, 2), new ObjectMapper(), AuthMetrics.noop());
+    }
+
+    @Test
+    void passwordLoginQueriesUserOnlyOnce() {
+        MockHttpServletResponse httpResponse = new MockHttpServletResponse();
+        String response = authController.login("testuser@example.com", "1234", new MockHttpServletRequest(), httpResponse);
+
+        // 인증 과정에서 한 번만 조회하고, 액세스/리프레시 토큰은 인증 결과(User_ID 포함)로 발급
+        verify(authUsersRepository, times(1)).findCredentialsByUsername("testuser@example.com");
+        verify(refreshTokenService).issue(1);
+        assertThat(httpResponse.getHeader("Set-Cookie")).startsWith("refresh_token=opaque-refresh-token");
+
+        String jwt = response.substring(response.lastIndexOf(' ') + 1);
+        assertThat(jwtService.getUsername(jwt)).isEqualTo("testuser@example.com");
+        assertThat(jwtService.getRoles(jwt)).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void batchIntrospectionStreamsResultsInRequestOrder() throws Exception {
+        String jwt = authController.login("testuser@example.com", "1234",
+                new MockHttpServletRequest(), new MockHttpServletResponse());
+        String token = jwt.substring(jwt.lastIndexOf(' ') + 1);
+
+        // 여러 청크로 나뉘도록 100개: 짝수 번째는 유효, 홀수 번째는 잘못된 토큰
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tokens.add(i % 2 == 0 ? token : "not-a-jwt-" + i);
+        }
+
+        ResponseEntity<StreamingResponseBody> response = authController.introspectBatch(batchRequest(tokens));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        JsonNode results = new ObjectMapper().readTree(out.toByteArray());
+        assertThat(results).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(results.get(i).get("active").asBoolean()).isEqualTo(i % 2 == 0);
+        }
+        assertThat(results.get(0).get("sub").asText()).isEqualTo("testuser@example.com");
+        assertThat(results.get(0).get("exp").asLong()).isPositive();
+        assertThat(results.get(1).has("sub")).isFalse();
+    }
+
+    @Test
+    void batchIntrospectionRejectsOversizedBatch() throws Exception {
+        // Content-Length 없이(chunked) 와도 501번째 토큰에서 거절
+        List<String> tokens = Collections.nCopies(501, "t");
+
+        assertThat(authController.introspectBatch(batchRequest(tokens, -1)).getStatusCode())
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    void batchIntrospectionRejectsOversizedBodyBeforeReading() throws Exception {
+        MockHttpServletRequest request = batchRequest(List.of("t"), 500L * 4099 + 3);
+
+        assertThat(authController.introspectBatch(request).getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    void batchIntrospectionRejectsOversizedChunkedBody() throws Exception {
+        // Content-Length 없이 토큰 1개 + 한도(500 × 4099 + 2바이트)를 넘는 공백
+        MockHttpServletRequest padded = batchRequest(List.of("t"), -1);
+        padded.setContent(("[\"t\"" + " ".repeat(3 * 1024 * 1024) + "]").getBytes());
+        assertThat(authController.introspectBatch(padded).getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+
+        // Content-Length 없이 한도보다 훨씬 긴 토큰 1개 (문자열을 끝까지 버퍼링하지 않고 거절)
+        MockHttpServletRequest overlong = batchRequest(List.of("t"), -1);
+        overlong.setContent(("[\"" + "t".repeat(4 * 1024 * 1024) + "\"]").getBytes());
+        assertThat(authController.introspectBatch(overlong).getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    void batchIntrospectionRejectsOverlongTokenAndMalformedBody() throws Exception {
+        assertThat(authController.introspectBatch(batchRequest(List.of("t".repeat(4097)))).getStatusCode())
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+
+        MockHttpServletRequest notAnArray = new MockHttpServletRequest("POST", "/auth/introspect/batch");
+        notAnArray.setContent("{\"token\":\"t\"}".getBytes());
+        assertThat(authController.introspectBatch(notAnArray).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private static MockHttpServletRequest batchRequest(List<String> tokens) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/introspect/batch");
+        request.setContentType("application/json");
+        request.setContent(new ObjectMapper().writeValueAsBytes(tokens));
+        return request;
+    }
+
+    /**
+     * Content-Length 헤더 값을 지정한 요청 (-1이면 chunked처럼 길이 없음)
+     */
+    private static MockHttpServletRequest batchRequest(List<String> tokens, long contentLength) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/introspect/batch") {
+            @Override
+            public long getContentLengthLong() {
+                return contentLength;
+            }
+        };
+        request.setContentType("application/json");
+        request.setContent(new ObjectMapper().writeValueAsBytes(tokens));
+        return request;
+    }
+}
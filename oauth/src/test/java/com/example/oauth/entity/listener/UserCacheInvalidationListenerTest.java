@@ -0,0 +1,139 @@
+package com.example.oauth.entity.listener;
+
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthRolesRepository;
+import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.service.UserDetailsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유저 / 롤 / 롤 연결 변경 시 UserDetailsCache 무효화 테스트 (H2)
+ * - 테스트 트랜잭션 없이 실제 커밋 후 제거되는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({UserDetailsCache.class, UserRolesChangeListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheInvalidationListenerTest {
+
+    private static final String USERNAME = "cached@example.com";
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private AuthUsersRepository authUsersRepository;
+
+    @Autowired
+    private AuthRolesRepository authRolesRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Integer userId;
+    private Integer roleId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        roleId = authRolesRepository.save(
+                AuthRolesEntity.builder().roleName("ROLE_HRM_MANAGER").serviceName("hrm").build()).getRoleId();
+        userId = authUsersRepository.save(AuthUsersEntity.builder()
+                .username(USERNAME)
+                .password("{noop}1234")
+                .build()).getUserId();
+        cache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        authUsersRepository.deleteAll();
+        authRolesRepository.deleteAll();
+    }
+
+    @Test
+    void savedUserIsEvicted() {
+        AuthUsersEntity user = authUsersRepository.findById(userId).orElseThrow();
+        user.setPassword("{noop}changed");
+        authUsersRepository.save(user);
+
+        assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNull();
+    }
+
+    @Test
+    void evictionWaitsForCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            AuthUsersEntity user = authUsersRepository.findById(userId).orElseThrow();
+            user.setPassword("{noop}changed");
+            authUsersRepository.saveAndFlush(user);
+
+            // flush 후 커밋 전: 다른 트랜잭션은 아직 이전 행을 보므로 캐시도 그대로
+            assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNotNull();
+        });
+
+        assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNull();
+    }
+
+    @Test
+    void rolledBackChangeKeepsCache() {
+        transactionTemplate.executeWithoutResult(status -> {
+            AuthUsersEntity user = authUsersRepository.findById(userId).orElseThrow();
+            user.setPassword("{noop}changed");
+            authUsersRepository.saveAndFlush(user);
+            status.setRollbackOnly();
+        });
+
+        assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNotNull();
+    }
+
+    @Test
+    void grantingRoleEvictsUser() {
+        transactionTemplate.executeWithoutResult(status -> {
+            AuthUsersEntity user = authUsersRepository.findById(userId).orElseThrow();
+            user.getRoles().add(authRolesRepository.findById(roleId).orElseThrow());
+        });
+
+        assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNull();
+    }
+
+    @Test
+    void revokingRoleEvictsUser() {
+        transactionTemplate.executeWithoutResult(status -> {
+            AuthUsersEntity user = authUsersRepository.findById(userId).orElseThrow();
+            user.getRoles().add(authRolesRepository.findById(roleId).orElseThrow());
+        });
+        cache();
+
+        transactionTemplate.executeWithoutResult(status ->
+                authUsersRepository.findById(userId).orElseThrow().getRoles().clear());
+
+        assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNull();
+    }
+
+    @Test
+    void changedRoleEvictsAllUsers() {
+        AuthRolesEntity role = authRolesRepository.findById(roleId).orElseThrow();
+        role.setServiceName("receipt");
+        authRolesRepository.save(role);
+
+        assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNull();
+    }
+
+    private void cache() {
+        userDetailsCache.putUserInCache(User.withUsername(USERNAME).password("{noop}1234").roles("USER").build());
+        assertThat(userDetailsCache.getUserFromCache(USERNAME)).isNotNull();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.oauth.repository;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuthUsersRepository 읽기 전용 프로젝션 쿼리 테스트 (H2, Hibernate 통계로 쿼리 수 확인)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AuthUsersRepositoryTest {
+
+    @Autowired
+    private AuthUsersRepository authUsersRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        AuthRolesEntity roleUser = entityManager.persist(
+                AuthRolesEntity.builder().roleName("ROLE_USER").serviceName("common").build());
+        AuthRolesEntity roleManager = entityManager.persist(
+                AuthRolesEntity.builder().roleName("ROLE_HRM_MANAGER").serviceName("hrm").build());
+
+        AuthUsersEntity manager = AuthUsersEntity.builder()
+                .username("manager@example.com")
+                .password("{noop}1234")
+                .build();
+        manager.getRoles().add(roleUser);
+        manager.getRoles().add(roleManager);
+        entityManager.persist(manager);
+
+        entityManager.persist(AuthUsersEntity.builder()
+                .username("norole@example.com")
+                .password("{noop}1234")
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void credentialsAreLoadedInSingleStatementWithoutEntities() {
+        Optional<AuthUserCredentials> credentials = authUsersRepository.findCredentialsByUsername("manager@example.com");
+
+        assertThat(credentials).isPresent();
+        assertThat(credentials.get().username()).isEqualTo("manager@example.com");
+        assertThat(credentials.get().password()).isEqualTo("{noop}1234");
+        assertThat(credentials.get().roleNames()).containsExactlyInAnyOrder("ROLE_USER", "ROLE_HRM_MANAGER");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        // 같은 유저를 ID로 읽어도 마찬가지
+        statistics.clear();
+        assertThat(authUsersRepository.findCredentialsById(credentials.get().userId()))
+                .contains(credentials.get());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userWithoutRolesHasEmptyRoleNames() {
+        assertThat(authUsersRepository.findCredentialsByUsername("norole@example.com"))
+                .hasValueSatisfying(c -> assertThat(c.roleNames()).isEmpty());
+        assertThat(authUsersRepository.findCredentialsByUsername("nobody@example.com")).isEmpty();
+    }
+
+    @Test
+    void entityLookupNoLongerLoadsRolesEagerly() {
+        AuthUsersEntity user = authUsersRepository.findByUsername("manager@example.com").orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(user.getUsername()).isEqualTo("manager@example.com");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.oauth.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    /**
+     * release 될 때까지 matches가 끝나지 않는 느린 인코더
+     */
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        // 스레드 1개 + 큐 1칸 → 세 번째 요청은 바로 거절
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5));
+
+        callers.submit(() -> encoder.matches("1234", "1234"));
+        callers.submit(() -> encoder.matches("1234", "1234"));
+        while (encoder.getActiveCount() + encoder.getQueueDepth() < 2) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> encoder.matches("1234", "1234"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(encoder.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void returnsDelegateResultAndRecordsLatency() {
+        release.countDown();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5));
+
+        assertThat(encoder.matches("1234", "1234")).isTrue();
+        assertThat(encoder.matches("1234", "0000")).isFalse();
+        assertThat(encoder.getHashCount()).isEqualTo(2);
+
+        encoder.destroy();
+    }
+}
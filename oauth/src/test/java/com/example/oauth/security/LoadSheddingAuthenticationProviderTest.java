@@ -0,0 +1,116 @@
+package com.example.oauth.security;
+
+import com.example.oauth.service.UserDetailsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 캐시된 유저 + 해시 큐 가득 참 → DB 재조회 / 해시 재제출 없이 바로 거절
+ * 비밀번호 확인 후 재해시만 거절 → 재해시 없이 로그인 성공
+ */
+class LoadSheddingAuthenticationProviderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    // release 될 때까지 matches가 끝나지 않는 느린 인코더
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void rejectionForCachedUserSkipsCacheRetry() throws Exception {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5));
+        UserDetails user = User.withUsername("testuser@example.com").password("1234").roles("USER").build();
+
+        UserDetailsCache userCache = new UserDetailsCache(true, 100, Duration.ofMinutes(10));
+        userCache.putUserInCache(user);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+
+        LoadSheddingAuthenticationProvider provider = new LoadSheddingAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserCache(userCache);
+
+        // 스레드 1개 + 큐 1칸을 채움
+        callers.submit(() -> encoder.matches("1234", "1234"));
+        callers.submit(() -> encoder.matches("1234", "1234"));
+        while (encoder.getActiveCount() + encoder.getQueueDepth() < 2) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("testuser@example.com", "1234")))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        assertThat(encoder.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void rejectedPasswordUpgradeStillLogsIn() {
+        UserDetails user = User.withUsername("legacy@example.com").password("{noop}1234").roles("USER").build();
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername("legacy@example.com")).thenReturn(user);
+        UserDetailsPasswordService passwordService = mock(UserDetailsPasswordService.class);
+
+        // 비밀번호 확인은 통과, 약한 해시라 재해시 대상인데 해시 큐가 가득 찬 상태
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches("1234", "{noop}1234")).thenReturn(true);
+        when(encoder.upgradeEncoding("{noop}1234")).thenReturn(true);
+        when(encoder.encode(any())).thenThrow(new PasswordHashingRejectedException("queue full"));
+
+        LoadSheddingAuthenticationProvider provider = new LoadSheddingAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsPasswordService(passwordService);
+
+        Authentication result = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("legacy@example.com", "1234"));
+
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(result.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(passwordService, never()).updatePassword(any(), any());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.oauth.security;
+
+import com.example.oauth.dto.OAuth2UserInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Provider별 사용자 정보 추출 테스트
+ */
+class OAuth2UserInfoExtractorsTest {
+
+    private final OAuth2UserInfoExtractors extractors = new OAuth2UserInfoExtractors(
+            List.of(new GoogleUserInfoExtractor(), new KakaoUserInfoExtractor()));
+
+    @Test
+    void extractsGoogleProfile() {
+        OAuth2UserInfo userInfo = extractors.get("google").extract(Map.of(
+                "sub", "1175547227",
+                "email", "user@gmail.com",
+                "email_verified", true,
+                "name", "홍길동",
+                "picture", "https://lh3.googleusercontent.com/a/1"));
+
+        assertThat(userInfo).isEqualTo(new OAuth2UserInfo("google", "1175547227", "user@gmail.com", true,
+                "홍길동", "https://lh3.googleusercontent.com/a/1"));
+    }
+
+    @Test
+    void unverifiedGoogleEmailIsNotUsed() {
+        OAuth2UserInfo userInfo = extractors.get("google").extract(Map.of(
+                "sub", "1175547227",
+                "email", "someone-else@example.com",
+                "email_verified", false));
+
+        assertThat(userInfo.email()).isEqualTo("googleUser_1175547227");
+        assertThat(userInfo.emailVerified()).isFalse();
+    }
+
+    @Test
+    void extractsNestedKakaoProfile() {
+        OAuth2UserInfo userInfo = extractors.get("kakao").extract(Map.of(
+                "id", 1234567890L,
+                "kakao_account", Map.of("email", "user@kakao.com", "is_email_verified", true),
+                "properties", Map.of("nickname", "카카오", "profile_image", "https://k.kakaocdn.net/1.jpg")));
+
+        assertThat(userInfo).isEqualTo(new OAuth2UserInfo("kakao", "1234567890", "user@kakao.com", true,
+                "카카오", "https://k.kakaocdn.net/1.jpg"));
+    }
+
+    @Test
+    void unverifiedKakaoEmailFallsBackToId() {
+        OAuth2UserInfo userInfo = extractors.get("kakao").extract(Map.of(
+                "id", 42L,
+                "kakao_account", Map.of("email", "user@kakao.com", "is_email_verified", false)));
+
+        assertThat(userInfo.email()).isEqualTo("kakaoUser_42");
+        assertThat(userInfo.emailVerified()).isFalse();
+    }
+
+    @Test
+    void kakaoWithoutEmailConsentFallsBackToId() {
+        OAuth2UserInfo userInfo = extractors.get("kakao").extract(Map.of("id", 42L));
+
+        assertThat(userInfo.email()).isEqualTo("kakaoUser_42");
+        assertThat(userInfo.emailVerified()).isFalse();
+        assertThat(userInfo.nickname()).isNull();
+        assertThat(userInfo.profileImage()).isNull();
+    }
+
+    @Test
+    void unknownProviderFailsAuthentication() {
+        assertThatThrownBy(() -> extractors.get("naver"))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+    }
+}
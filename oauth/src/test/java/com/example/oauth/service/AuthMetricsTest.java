@@ -0,0 +1,66 @@
+package com.example.oauth.service;
+
+import com.example.oauth.security.PasswordHashingRejectedException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증 지표 태그 / JwtService 계측 테스트
+ */
+class AuthMetricsTest {
+
+    private static final String SECRET = "THIS_IS_SECRET_KEY_FOR_JWT_1234567890";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AuthMetrics metrics = new AuthMetrics(registry);
+
+    @Test
+    void verifyOutcomesAreTaggedByReason() {
+        JwtService jwtService = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), RoleClaimCodec.standard(), metrics, 3600000);
+        String token = jwtService.createToken(
+                UsernamePasswordAuthenticationToken.authenticated("testuser@example.com", null, List.of()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        jwtService.verify(token);
+        assertThatThrownBy(() -> jwtService.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtService.verify("not-a-jwt")).isInstanceOf(JwtException.class);
+
+        assertThat(registry.get("auth.jwt.sign").timer().count()).isEqualTo(1);
+        assertThat(registry.get("auth.jwt.verify").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("auth.jwt.verify").tag("outcome", "bad_signature").timer().count()).isEqualTo(1);
+        assertThat(registry.get("auth.jwt.verify").tag("outcome", "malformed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failureReasonsUseFixedVocabulary() {
+        assertThat(AuthMetrics.loginFailureReason(new BadCredentialsException("x"))).isEqualTo("bad_password");
+        assertThat(AuthMetrics.loginFailureReason(new PasswordHashingRejectedException("x"))).isEqualTo("overloaded");
+        assertThat(AuthMetrics.loginFailureReason(new OAuth2AuthenticationException(new OAuth2Error("unsupported_provider"))))
+                .isEqualTo("unknown_provider");
+        // 요청 파라미터로 들어온 임의의 error 코드는 태그 값으로 쓰지 않음
+        assertThat(AuthMetrics.loginFailureReason(new OAuth2AuthenticationException(new OAuth2Error("<script>"))))
+                .isEqualTo("other");
+        assertThat(AuthMetrics.verifyFailureReason(new SignatureException("x"))).isEqualTo("bad_signature");
+        assertThat(AuthMetrics.verifyFailureReason(new RevokedJwtException("x"))).isEqualTo("revoked");
+    }
+
+    @Test
+    void loginFailureRecordsLatencyAndReason() {
+        metrics.loginFailed(metrics.start(), "password", "local", "bad_password");
+
+        assertThat(registry.get("auth.login").tags("method", "password", "outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(registry.get("auth.login.failures").tag("reason", "bad_password").counter().count()).isEqualTo(1);
+    }
+}
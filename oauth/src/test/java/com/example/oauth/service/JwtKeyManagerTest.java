@@ -0,0 +1,114 @@
+package com.example.oauth.service;
+
+import com.example.oauth.entity.AuthUsersEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키 교체 시 기존 토큰 검증 유지 / 키 파일 재로딩 테스트
+ */
+class JwtKeyManagerTest {
+
+    private static final String SECRET_1 = "FIRST_SECRET_KEY_FOR_JWT_ROTATION_TEST_1";
+    private static final String SECRET_2 = "SECOND_SECRET_KEY_FOR_JWT_ROTATION_TEST_2";
+    private static final String SECRET_3 = "THIRD_SECRET_KEY_FOR_JWT_ROTATION_TEST_33";
+
+    @TempDir
+    Path tempDir;
+
+    private JwtService jwtService(JwtKeyManager keyManager) {
+        return new JwtService(keyManager, new VerifiedTokenCache(false, 0), new RevokedTokenSet(1000), RoleClaimCodec.standard(), 3600000);
+    }
+
+    private AuthUsersEntity user() {
+        return AuthUsersEntity.builder().username("testuser@example.com").password("{noop}1234").build();
+    }
+
+    @Test
+    void tokensSignedWithPreviousKeyStayValidAfterRotation() {
+        JwtKeyManager keyManager = new JwtKeyManager(JwtKeyMaterial.of(JwtSigningKey.hmac("k1", SECRET_1)));
+        JwtService jwtService = jwtService(keyManager);
+        String oldToken = jwtService.createToken(user());
+
+        keyManager.rotate(JwtSigningKey.hmac("k2", SECRET_2));
+        String newToken = jwtService.createToken(user());
+
+        assertThat(keyManager.current().getActiveKey().getKid()).isEqualTo("k2");
+        assertThat(jwtService.validateToken(oldToken)).isTrue();
+        assertThat(jwtService.validateToken(newToken)).isTrue();
+    }
+
+    @Test
+    void keysOlderThanRetentionAreDropped() {
+        JwtKeyManager keyManager = new JwtKeyManager(JwtKeyMaterial.of(JwtSigningKey.hmac("k1", SECRET_1)));
+        JwtService jwtService = jwtService(keyManager);
+        String oldestToken = jwtService.createToken(user());
+
+        // 기본 보관 개수 2 → k1, k2는 유지되고, 한 번 더 교체하면 k1이 빠짐
+        keyManager.rotate(JwtSigningKey.hmac("k2", SECRET_2));
+        keyManager.rotate(JwtSigningKey.hmac("k3", SECRET_3));
+        assertThat(jwtService.validateToken(oldestToken)).isTrue();
+
+        keyManager.rotate(JwtSigningKey.hmac("k4", SECRET_1 + "_NEXT"));
+        assertThat(jwtService.validateToken(oldestToken)).isFalse();
+    }
+
+    @Test
+    void reloadPicksUpNewActiveKeyFromFile() throws IOException {
+        Path keysFile = tempDir.resolve("jwt-keys.json");
+        writeKeyFile(keysFile, "k1", SECRET_1);
+
+        JwtKeyManager keyManager = new JwtKeyManager(JwtKeyMaterial.of(JwtSigningKey.hmac("k0", SECRET_3)));
+        keyManager.reload(keysFile);
+        JwtService jwtService = jwtService(keyManager);
+        String token = jwtService.createToken(user());
+
+        // 이전 활성 키 k1을 검증용으로 남긴 채 active만 k2로
+        Files.writeString(keysFile, """
+                {
+                  "active": "k2",
+                  "keys": [
+                    { "kid": "k2", "alg": "HS256", "secret": "%s" },
+                    { "kid": "k1", "alg": "HS256", "secret": "%s" }
+                  ]
+                }
+                """.formatted(SECRET_2, SECRET_1));
+        keyManager.reload(keysFile);
+
+        assertThat(keyManager.current().getActiveKey().getKid()).isEqualTo("k2");
+        assertThat(jwtService.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void reloadDropsPreviousActiveKeyMissingFromFile() throws IOException {
+        Path keysFile = tempDir.resolve("jwt-keys.json");
+        writeKeyFile(keysFile, "k1", SECRET_1);
+
+        JwtKeyManager keyManager = new JwtKeyManager(JwtKeyMaterial.of(JwtSigningKey.hmac("k0", SECRET_3)));
+        keyManager.reload(keysFile);
+        JwtService jwtService = jwtService(keyManager);
+        String token = jwtService.createToken(user());
+
+        // 유출된 k1을 파일에서 빼면 직전 활성 키였어도 바로 검증 불가
+        writeKeyFile(keysFile, "k2", SECRET_2);
+        keyManager.reload(keysFile);
+
+        assertThat(keyManager.current().getKeys()).extracting(JwtSigningKey::getKid).containsExactly("k2");
+        assertThat(jwtService.validateToken(token)).isFalse();
+    }
+
+    private static void writeKeyFile(Path path, String activeKid, String secret) throws IOException {
+        Files.writeString(path, """
+                {
+                  "active": "%s",
+                  "keys": [ { "kid": "%s", "alg": "HS256", "secret": "%s" } ]
+                }
+                """.formatted(activeKid, activeKid, secret));
+    }
+}
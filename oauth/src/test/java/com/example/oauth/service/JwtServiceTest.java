@@ -0,0 +1,186 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.VerifiedToken;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtService 단위 테스트 (스프링 컨텍스트 없이 직접 생성)
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "THIS_IS_SECRET_KEY_FOR_JWT_1234567890";
+
+    private JwtService jwtService(VerifiedTokenCache cache) {
+        return new JwtService(new JwtKeyManager(SECRET), cache, new RevokedTokenSet(1000), RoleClaimCodec.standard(), 3600000);
+    }
+
+    private AuthUsersEntity user() {
+        AuthUsersEntity user = AuthUsersEntity.builder()
+                .username("testuser@example.com")
+                .password("{noop}1234")
+                .build();
+        user.getRoles().add(AuthRolesEntity.builder().roleId(1).roleName("ROLE_USER").serviceName("common").build());
+        return user;
+    }
+
+    @Test
+    void verifyDecodesAllClaimsOnce() {
+        JwtService jwtService = jwtService(new VerifiedTokenCache(false, 0));
+        String token = jwtService.createTokenWithProfile(user(), "테스트", "https://example.com/p.png");
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertThat(verified.getSubject()).isEqualTo("testuser@example.com");
+        assertThat(verified.getRoles()).containsExactly("ROLE_USER");
+        assertThat(verified.getNickname()).isEqualTo("테스트");
+        assertThat(verified.getProfileImage()).isEqualTo("https://example.com/p.png");
+        assertThat(verified.getExpiration()).isAfter(verified.getIssuedAt());
+    }
+
+    @Test
+    void cachedTokenIsVerifiedOnlyOnce() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        JwtService jwtService = jwtService(cache);
+        String token = jwtService.createToken(user());
+
+        assertThat(jwtService.validateToken(token)).isTrue();
+        assertThat(jwtService.validateToken(token)).isTrue();
+
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SignatureAlgorithm.class, names = {"RS256", "ES256"})
+    void asymmetricTokenCarriesKidAndVerifiesWithPublishedKey(SignatureAlgorithm algorithm) {
+        JwtSigningKey signingKey = JwtSigningKey.generate(null, algorithm);
+        JwtKeyMaterial keyMaterial = JwtKeyMaterial.of(signingKey);
+        JwtService jwtService = new JwtService(new JwtKeyManager(keyMaterial), new VerifiedTokenCache(false, 0), new RevokedTokenSet(1000), RoleClaimCodec.standard(), 3600000);
+
+        String token = jwtService.createToken(user());
+
+        // 리소스 서버 입장: 공개키만으로 검증
+        String kid = Jwts.parserBuilder()
+                .setSigningKey(signingKey.getVerificationKey())
+                .build()
+                .parseClaimsJws(token)
+                .getHeader()
+                .getKeyId();
+        assertThat(kid).isEqualTo(signingKey.getKid());
+        assertThat(keyMaterial.getJwksJson()).contains("\"kid\":\"" + kid + "\"");
+        assertThat(keyMaterial.getJwksEtag()).isEqualTo(JwtKeyMaterial.of(signingKey).getJwksEtag());
+        assertThat(jwtService.getUsername(token)).isEqualTo("testuser@example.com");
+    }
+
+    @Test
+    void hmacSecretIsNeverPublishedInJwks() {
+        assertThat(JwtKeyMaterial.fromSecret(SECRET).getJwksJson()).isEqualTo("{\"keys\":[]}");
+    }
+
+    @Test
+    void tamperedTokenIsRejectedAndNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        JwtService jwtService = jwtService(cache);
+        String token = jwtService.createToken(user());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(jwtService.validateToken(tampered)).isFalse();
+        assertThatThrownBy(() -> jwtService.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void revokedTokenIsRejectedEvenWhenCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(1000);
+        JwtService jwtService = new JwtService(new JwtKeyManager(SECRET), cache, revokedTokens, RoleClaimCodec.standard(), 3600000);
+        String token = jwtService.createToken(user());
+        String other = jwtService.createToken(user());
+
+        VerifiedToken verified = jwtService.verify(token);
+        assertThat(verified.getTokenId()).isNotBlank();
+
+        revokedTokens.add(verified.getTokenId(), verified.getExpiration());
+
+        assertThat(jwtService.validateToken(token)).isFalse();
+        assertThat(jwtService.validateToken(other)).isTrue();
+    }
+
+    @Test
+    void compactRolesShrinkTokenAndDecodeBack() {
+        RoleDictionary dictionary = RoleDictionary.of(Map.of(
+                1, "ROLE_USER", 2, "ROLE_HRM_MANAGER", 3, "ROLE_RECEIPT_APPROVER"));
+        JwtService standard = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), new RoleClaimCodec(dictionary, false), 3600000);
+        JwtService compact = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), new RoleClaimCodec(dictionary, true), 3600000);
+
+        AuthUsersEntity manager = user();
+        manager.getRoles().add(AuthRolesEntity.builder().roleId(2).roleName("ROLE_HRM_MANAGER").serviceName("hrm").build());
+        manager.getRoles().add(AuthRolesEntity.builder().roleId(3).roleName("ROLE_RECEIPT_APPROVER").serviceName("receipt").build());
+        String profileImage = "https://lh3.googleusercontent.com/a/ACg8ocJ7x1234567890abcdefghijklmnop=s96-c";
+
+        String standardToken = standard.createTokenWithProfile(manager, "매니저", profileImage);
+        String compactToken = compact.createTokenWithProfile(manager, "매니저", profileImage);
+
+        // roles 목록 + 프로필 URL이 빠지는 만큼 확실히 짧아야 함
+        assertThat(compactToken.length()).isLessThan(standardToken.length() * 2 / 3);
+
+        // 읽는 쪽은 두 형식 모두 같은 roles로 해석, 프로필은 압축 토큰에 없음
+        VerifiedToken verified = compact.verify(compactToken);
+        assertThat(verified.getRoles()).containsExactly("ROLE_USER", "ROLE_HRM_MANAGER", "ROLE_RECEIPT_APPROVER");
+        assertThat(verified.getProfileImage()).isNull();
+        assertThat(compact.getRoles(standardToken)).containsExactlyInAnyOrderElementsOf(verified.getRoles());
+    }
+
+    @Test
+    void compactModeFallsBackToRoleNamesForUnknownRole() {
+        JwtService compact = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), new RoleClaimCodec(RoleDictionary.of(Map.of(2, "ROLE_ADMIN")), true), 3600000);
+
+        String token = compact.createToken(user());
+
+        assertThat(compact.getAllClaims(token)).containsKey(RoleClaimCodec.ROLES_CLAIM);
+        assertThat(compact.getRoles(token)).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void compactRolesDecodeOnVerifierWithNewerDictionary() {
+        // 발급 후 롤이 추가되고 새로 뜬 노드 → 발급 노드 사전은 검증 노드 사전의 부분집합
+        JwtService issuer = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), new RoleClaimCodec(RoleDictionary.of(Map.of(1, "ROLE_USER")), true), 3600000);
+        JwtService verifier = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), new RoleClaimCodec(RoleDictionary.of(Map.of(
+                        1, "ROLE_USER", 2, "ROLE_HRM_MANAGER")), true), 3600000);
+
+        String token = issuer.createToken(user());
+
+        assertThat(verifier.getRoles(token)).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void compactRolesFromUnknownDictionaryVersionAreNotDecoded() {
+        // 같은 Role_ID가 다른 롤을 가리키는 사전 (DB 재생성 등)
+        JwtService issuer = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), new RoleClaimCodec(RoleDictionary.of(Map.of(1, "ROLE_USER")), true), 3600000);
+        JwtService verifier = new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                new RevokedTokenSet(1000), new RoleClaimCodec(RoleDictionary.of(Map.of(1, "ROLE_ADMIN")), true), 3600000);
+
+        String token = issuer.createToken(user());
+
+        assertThat(issuer.getRoles(token)).containsExactly("ROLE_USER");
+        assertThat(verifier.getRoles(token)).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.TokenResponse;
+import com.example.oauth.entity.AuthRefreshTokensEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthRefreshTokensRepository;
+import com.example.oauth.repository.AuthUsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 회전 / 재사용 감지 / 만료 테스트 (H2)
+ * - 테스트 트랜잭션 없이 서비스 트랜잭션이 그대로 커밋되도록 해서
+ *   재사용 감지 시 패밀리 폐기가 예외와 함께 롤백되지 않는지(noRollbackFor) 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "jwt.refresh.expiration=1209600000"
+})
+@Import({RefreshTokenService.class, RefreshTokenServiceTest.JwtConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = "THIS_IS_SECRET_KEY_FOR_JWT_1234567890";
+
+    @TestConfiguration
+    static class JwtConfig {
+        @Bean
+        JwtService jwtService() {
+            return new JwtService(new JwtKeyManager(SECRET), new VerifiedTokenCache(false, 0),
+                    new RevokedTokenSet(1000), RoleClaimCodec.standard(), 3600000);
+        }
+    }
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private AuthRefreshTokensRepository refreshTokensRepository;
+
+    @Autowired
+    private AuthUsersRepository authUsersRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private AuthUsersEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = authUsersRepository.save(AuthUsersEntity.builder()
+                .username("testuser@example.com")
+                .password("{noop}1234")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokensRepository.deleteAll();
+        authUsersRepository.deleteAll();
+    }
+
+    @Test
+    void refreshRotatesToken() {
+        String first = refreshTokenService.issue(user.getUserId());
+
+        TokenResponse response = refreshTokenService.refresh(first);
+
+        assertThat(response.getRefreshToken()).isNotEqualTo(first);
+        assertThat(jwtService.getUsername(response.getAccessToken())).isEqualTo("testuser@example.com");
+
+        // 같은 패밀리에 새 행이 추가되고, 사용한 토큰은 Used_At 기록
+        List<AuthRefreshTokensEntity> tokens = refreshTokensRepository.findAll();
+        assertThat(tokens).hasSize(2);
+        assertThat(tokens).extracting(AuthRefreshTokensEntity::getFamilyId).containsOnly(tokens.get(0).getFamilyId());
+        assertThat(tokens).filteredOn(token -> token.getUsedAt() != null).hasSize(1);
+        assertThat(tokens).noneMatch(AuthRefreshTokensEntity::isRevoked);
+
+        // 회전된 토큰으로 한 번 더 재발급 가능
+        assertThat(refreshTokenService.refresh(response.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void reusedTokenRevokesFamily() {
+        String first = refreshTokenService.issue(user.getUserId());
+        String second = refreshTokenService.refresh(first).getRefreshToken();
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("reuse");
+
+        // 정상 사용자가 가진 최신 토큰도 같이 폐기됨
+        assertThatThrownBy(() -> refreshTokenService.refresh(second))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("revoked");
+    }
+
+    @Test
+    void familyRevocationIsCommittedDespiteException() {
+        String first = refreshTokenService.issue(user.getUserId());
+        refreshTokenService.refresh(first);
+        String otherFamily = refreshTokenService.issue(user.getUserId());
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        // 서비스 트랜잭션이 끝난 뒤 새로 읽어도 폐기 상태 유지 (다른 로그인의 패밀리는 그대로)
+        List<AuthRefreshTokensEntity> tokens = refreshTokensRepository.findAll();
+        assertThat(tokens).hasSize(3);
+        assertThat(tokens).filteredOn(AuthRefreshTokensEntity::isRevoked).hasSize(2);
+        assertThat(refreshTokenService.refresh(otherFamily).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = refreshTokenService.issue(user.getUserId());
+        for (AuthRefreshTokensEntity entity : refreshTokensRepository.findAll()) {
+            entity.setExpiresAt(Instant.now().minusSeconds(1));
+            refreshTokensRepository.save(entity);
+        }
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(token))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("expired");
+
+        // 만료 토큰은 사용 처리되지 않음
+        assertThat(refreshTokensRepository.findAll()).allMatch(entity -> entity.getUsedAt() == null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.oauth.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RevokedTokenSet 단위 테스트
+ */
+class RevokedTokenSetTest {
+
+    @Test
+    void containsOnlyRevokedIdsEvenBeyondExpectedSize() {
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(100);
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(15));
+
+        // 예상치(초기 용량)의 10배를 넣어도 빠지는 항목이 없어야 함
+        String[] ids = new String[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            revokedTokens.add(ids[i], expiresAt);
+        }
+
+        for (String id : ids) {
+            assertThat(revokedTokens.contains(id)).isTrue();
+        }
+        assertThat(revokedTokens.contains(UUID.randomUUID().toString())).isFalse();
+        assertThat(revokedTokens.contains(null)).isFalse();
+    }
+
+    @Test
+    void pruneDropsExpiredEntries() {
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(100);
+        Instant now = Instant.now();
+        String shortLived = UUID.randomUUID().toString();
+        String longLived = UUID.randomUUID().toString();
+        revokedTokens.add(shortLived, now.plusSeconds(1));
+        revokedTokens.add(longLived, now.plus(Duration.ofMinutes(15)));
+
+        assertThat(revokedTokens.prune(now.plusSeconds(5))).isEqualTo(1);
+
+        assertThat(revokedTokens.size()).isEqualTo(1);
+        assertThat(revokedTokens.contains(shortLived)).isFalse();
+        assertThat(revokedTokens.contains(longLived)).isTrue();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(100);
+        revokedTokens.add(UUID.randomUUID().toString(), Instant.now().minusSeconds(1));
+
+        assertThat(revokedTokens.size()).isZero();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.oauth.service;
+
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.repository.AuthRolesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * RoleCatalog 단위 테스트 (Mockito 리포지토리)
+ */
+class RoleCatalogTest {
+
+    private AuthRolesRepository authRolesRepository;
+    private RoleCatalog roleCatalog;
+
+    @BeforeEach
+    void setUp() {
+        authRolesRepository = mock(AuthRolesRepository.class);
+        when(authRolesRepository.findAll()).thenReturn(List.of(
+                AuthRolesEntity.builder().roleId(1).roleName("ROLE_USER").serviceName("common").build(),
+                AuthRolesEntity.builder().roleId(2).roleName("ROLE_HRM_MANAGER").serviceName("hrm").build()));
+        roleCatalog = new RoleCatalog(authRolesRepository);
+    }
+
+    @Test
+    void lookupsAreServedFromMemoryAfterFirstLoad() {
+        assertThat(roleCatalog.findByName("ROLE_USER")).map(RoleCatalog.Role::roleId).contains(1);
+        assertThat(roleCatalog.findById(2)).map(RoleCatalog.Role::roleName).contains("ROLE_HRM_MANAGER");
+        assertThat(roleCatalog.findByService("hrm")).extracting(RoleCatalog.Role::roleName).containsExactly("ROLE_HRM_MANAGER");
+        assertThat(roleCatalog.getOrCreate("ROLE_USER", "common").roleId()).isEqualTo(1);
+
+        verify(authRolesRepository, times(1)).findAll();
+        verify(authRolesRepository, never()).findByRoleName(any());
+        verify(authRolesRepository, never()).save(any());
+    }
+
+    @Test
+    void missingRoleIsCreatedOnceAndDictionaryFollows() {
+        when(authRolesRepository.findByRoleName("ROLE_RECEIPT_APPROVER")).thenReturn(Optional.empty());
+        when(authRolesRepository.save(any())).thenAnswer(invocation -> {
+            AuthRolesEntity role = invocation.getArgument(0);
+            role.setRoleId(3);
+            return role;
+        });
+        String versionBefore = roleCatalog.getDictionary().getVersion();
+
+        RoleCatalog.Role created = roleCatalog.getOrCreate("ROLE_RECEIPT_APPROVER", "receipt");
+        roleCatalog.getOrCreate("ROLE_RECEIPT_APPROVER", "receipt");
+
+        assertThat(created.roleId()).isEqualTo(3);
+        verify(authRolesRepository, times(1)).save(any());
+        assertThat(roleCatalog.getDictionary().getVersion()).isNotEqualTo(versionBefore);
+        assertThat(roleCatalog.getDictionary().encode(List.of("ROLE_RECEIPT_APPROVER"))).isNotNull();
+
+        roleCatalog.remove(3);
+        assertThat(roleCatalog.findByName("ROLE_RECEIPT_APPROVER")).isEmpty();
+        assertThat(roleCatalog.getDictionary().getVersion()).isEqualTo(versionBefore);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.dto.OAuth2UserInfo;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthUserIdentitiesRepository;
+import com.example.oauth.repository.AuthUsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소셜 가입 네이티브 upsert(INSERT ... ON CONFLICT) 테스트 (PostgreSQL 컨테이너, Docker 없으면 건너뜀)
+ * - 스키마는 Flyway 마이그레이션으로 만들고 엔티티와 맞는지 ddl-auto=validate로 확인
+ * - 같은 소셜 계정 첫 로그인이 동시에 와도 유저 / 연결이 1개만 생기는지
+ * - upsert의 nextval과 Hibernate pooled 옵티마이저(allocationSize 50)가 같은 시퀀스를 써도 ID가 겹치지 않는지
+ * - 인증되지 않은 이메일은 같은 Email의 기존 계정에 연결하지 않는지
+ * - 연결 테이블 이전에 가입한 소셜 유저(kakaoUser_<id>)는 첫 로그인에 기존 계정으로 연결되는지
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(SocialUserService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SocialUserServicePostgresTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private SocialUserService socialUserService;
+
+    @Autowired
+    private AuthUserIdentitiesRepository authUserIdentitiesRepository;
+
+    @Autowired
+    private AuthUsersRepository authUsersRepository;
+
+    @AfterEach
+    void tearDown() {
+        authUserIdentitiesRepository.deleteAll();
+        authUsersRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentFirstLoginsCreateOneUser() throws Exception {
+        OAuth2UserInfo userInfo = new OAuth2UserInfo("google", "sub-1", "user@gmail.com", true, "홍길동", null);
+
+        assertThat(resolveConcurrently(userInfo, 8)).hasSize(1);
+        assertThat(authUsersRepository.count()).isEqualTo(1);
+        assertThat(authUserIdentitiesRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentFirstLoginsWithUnverifiedEmailCreateOneUser() throws Exception {
+        // 연결하지 않는 쪽(DO UPDATE ... WHERE false)도 나중 요청이 먼저 만든 연결을 다시 읽어서 성공
+        OAuth2UserInfo userInfo = new OAuth2UserInfo("kakao", "42", "kakaoUser_42", false, "카카오", null);
+
+        assertThat(resolveConcurrently(userInfo, 8)).hasSize(1);
+        assertThat(authUsersRepository.count()).isEqualTo(1);
+        assertThat(authUserIdentitiesRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void socialSignupsAndPooledIdsDoNotCollide() {
+        // Hibernate는 nextval 값 v마다 (v-49 .. v]를 미리 가져가고, upsert는 nextval 값을 그대로 ID로 사용
+        // → 두 방식이 번갈아 가며 구간 여러 개를 넘겨도 PK 위반 없이 모두 다른 ID
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            if (i % 40 == 0) {
+                ids.add(socialUserService.resolve(new OAuth2UserInfo("google", "sub-" + i,
+                        "social" + i + "@gmail.com", true, null, null)).userId());
+            }
+            ids.add(authUsersRepository.save(AuthUsersEntity.builder()
+                    .username("local" + i + "@example.com")
+                    .password("{noop}1234")
+                    .build()).getUserId());
+        }
+
+        assertThat(ids).hasSize(123).doesNotHaveDuplicates();
+        assertThat(authUsersRepository.count()).isEqualTo(123);
+    }
+
+    @Test
+    void upsertLinksExistingEmailOnlyWhenVerified() {
+        Integer localUserId = authUsersRepository.save(AuthUsersEntity.builder()
+                .username("user@gmail.com")
+                .password("{noop}1234")
+                .build()).getUserId();
+
+        // 인증되지 않은 이메일: 로컬 계정에 연결하지 않음
+        assertThat(authUserIdentitiesRepository.upsert("google", "sub-attacker", "user@gmail.com", false,
+                "GOOGLE_OAUTH", null, null)).isZero();
+        assertThat(authUserIdentitiesRepository.findLinkedUser("google", "sub-attacker")).isEmpty();
+
+        // Provider가 인증한 이메일: 같은 Email 계정에 연결
+        assertThat(authUserIdentitiesRepository.upsert("google", "sub-owner", "user@gmail.com", true,
+                "GOOGLE_OAUTH", null, null)).isEqualTo(1);
+        assertThat(authUserIdentitiesRepository.findLinkedUser("google", "sub-owner").orElseThrow()
+                .credentials().userId()).isEqualTo(localUserId);
+        assertThat(authUsersRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void legacySocialUserWithFallbackEmailIsLinkedOnFirstLogin() {
+        // auth_user_identities가 생기기 전 카카오 로그인으로 만든 유저 (연결 행 없음)
+        Integer legacyUserId = authUsersRepository.save(AuthUsersEntity.builder()
+                .username("kakaoUser_42")
+                .password("KAKAO_OAUTH")
+                .build()).getUserId();
+
+        AuthUserCredentials credentials = socialUserService.resolve(
+                new OAuth2UserInfo("kakao", "42", "kakaoUser_42", false, "카카오", null));
+
+        assertThat(credentials.userId()).isEqualTo(legacyUserId);
+        assertThat(authUsersRepository.count()).isEqualTo(1);
+        assertThat(authUserIdentitiesRepository.findLinkedUser("kakao", "42").orElseThrow()
+                .credentials().userId()).isEqualTo(legacyUserId);
+    }
+
+    @Test
+    void fallbackEmailIsNotLinkedToLocalPasswordAccount() {
+        // 같은 문자열을 일반 가입 username으로 쓴 계정은 소셜 계정이 아니므로 연결하지 않음
+        authUsersRepository.save(AuthUsersEntity.builder()
+                .username("kakaoUser_42")
+                .password("{noop}1234")
+                .build());
+
+        assertThat(authUserIdentitiesRepository.upsert("kakao", "42", "kakaoUser_42", false,
+                "KAKAO_OAUTH", null, null)).isZero();
+        assertThat(authUserIdentitiesRepository.findLinkedUser("kakao", "42")).isEmpty();
+    }
+
+    private Set<Integer> resolveConcurrently(OAuth2UserInfo userInfo, int logins) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Integer> userIds = new HashSet<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(logins)) {
+            List<Future<AuthUserCredentials>> results = new ArrayList<>();
+            for (int i = 0; i < logins; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return socialUserService.resolve(userInfo);
+                }));
+            }
+            start.countDown();
+            for (Future<AuthUserCredentials> result : results) {
+                userIds.add(result.get(30, TimeUnit.SECONDS).userId());
+            }
+        }
+        return userIds;
+    }
+}
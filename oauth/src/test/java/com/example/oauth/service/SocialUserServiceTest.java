@@ -0,0 +1,75 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.AuthUserCredentials;
+import com.example.oauth.dto.LinkedUser;
+import com.example.oauth.dto.OAuth2UserInfo;
+import com.example.oauth.repository.AuthUserIdentitiesRepository;
+import com.example.oauth.repository.AuthUsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SocialUserService 단위 테스트 (Mockito 리포지토리)
+ */
+class SocialUserServiceTest {
+
+    private static final AuthUserCredentials CREDENTIALS =
+            new AuthUserCredentials(7, "user@gmail.com", "GOOGLE_OAUTH", List.of("ROLE_USER"));
+
+    private AuthUserIdentitiesRepository authUserIdentitiesRepository;
+    private AuthUsersRepository authUsersRepository;
+    private SocialUserService socialUserService;
+
+    @BeforeEach
+    void setUp() {
+        authUserIdentitiesRepository = mock(AuthUserIdentitiesRepository.class);
+        authUsersRepository = mock(AuthUsersRepository.class);
+        socialUserService = new SocialUserService(authUserIdentitiesRepository, authUsersRepository);
+    }
+
+    @Test
+    void returningUserIsResolvedWithSingleLookup() {
+        when(authUserIdentitiesRepository.findLinkedUser("google", "sub-1"))
+                .thenReturn(Optional.of(new LinkedUser(CREDENTIALS, "홍길동", "https://img/1")));
+
+        AuthUserCredentials credentials = socialUserService.resolve(
+                new OAuth2UserInfo("google", "sub-1", "user@gmail.com", true, "홍길동", "https://img/1"));
+
+        assertThat(credentials).isEqualTo(CREDENTIALS);
+        verify(authUserIdentitiesRepository, times(1)).findLinkedUser("google", "sub-1");
+        verify(authUserIdentitiesRepository, never()).upsert(any(), any(), any(), anyBoolean(), any(), any(), any());
+        verifyNoInteractions(authUsersRepository);
+    }
+
+    @Test
+    void firstLoginUpsertsThenReadsBack() {
+        when(authUserIdentitiesRepository.findLinkedUser("kakao", "42"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new LinkedUser(CREDENTIALS, "카카오", null)));
+
+        AuthUserCredentials credentials = socialUserService.resolve(
+                new OAuth2UserInfo("kakao", "42", "kakaoUser_42", false, "카카오", null));
+
+        assertThat(credentials.userId()).isEqualTo(7);
+        // 인증된 이메일이 아니므로 기존 계정에 연결하지 않음
+        verify(authUserIdentitiesRepository).upsert("kakao", "42", "kakaoUser_42", false, "KAKAO_OAUTH", "카카오", null);
+        verify(authUsersRepository, never()).updateProfile(any(), any(), any());
+    }
+
+    @Test
+    void changedProfileIsUpdated() {
+        when(authUserIdentitiesRepository.findLinkedUser("google", "sub-1"))
+                .thenReturn(Optional.of(new LinkedUser(CREDENTIALS, "old", null)));
+
+        socialUserService.resolve(new OAuth2UserInfo("google", "sub-1", "user@gmail.com", true, "new", "https://img/2"));
+
+        verify(authUsersRepository).updateProfile(7, "new", "https://img/2");
+    }
+}
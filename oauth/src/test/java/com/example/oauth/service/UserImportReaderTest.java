@@ -0,0 +1,58 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.UserImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserImportReader 단위 테스트 (CSV / NDJSON 파싱)
+ */
+class UserImportReaderTest {
+
+    @Test
+    void csvIsReadInChunksWithQuotedFields() throws Exception {
+        String csv = """
+                email,name,password,roles
+                a@example.com,"Kim, A",pw1,ROLE_USER|ROLE_HRM_MANAGER
+                b@example.com,"say ""hi"" there",{bcrypt}$2a$10$abc,
+
+                "c@example.com,broken
+                d@example.com,,pw4,ROLE_USER
+                """;
+
+        try (UserImportReader reader = UserImportReader.csv(new BufferedReader(new StringReader(csv)))) {
+            List<UserImportRecord> first = reader.next(2);
+            List<UserImportRecord> second = reader.next(2);
+
+            assertThat(first).containsExactly(
+                    new UserImportRecord("a@example.com", "pw1", "Kim, A", List.of("ROLE_USER", "ROLE_HRM_MANAGER")),
+                    new UserImportRecord("b@example.com", "{bcrypt}$2a$10$abc", "say \"hi\" there", List.of()));
+            assertThat(second).containsExactly(
+                    new UserImportRecord("d@example.com", "pw4", null, List.of("ROLE_USER")));
+            assertThat(reader.next(2)).isEmpty();
+            assertThat(reader.getMalformedCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void ndjsonAcceptsUsernameAliasAndSkipsMalformedLines() throws Exception {
+        String ndjson = """
+                {"email":"a@example.com","password":"pw1","roles":["ROLE_USER"]}
+                {"username":"b@example.com","password":"pw2","name":"B"}
+                {not json}
+                """;
+
+        try (UserImportReader reader = UserImportReader.ndjson(new BufferedReader(new StringReader(ndjson)), new ObjectMapper())) {
+            assertThat(reader.next(10)).containsExactly(
+                    new UserImportRecord("a@example.com", "pw1", null, List.of("ROLE_USER")),
+                    new UserImportRecord("b@example.com", "pw2", "B", List.of()));
+            assertThat(reader.getMalformedCount()).isEqualTo(1);
+        }
+    }
+}
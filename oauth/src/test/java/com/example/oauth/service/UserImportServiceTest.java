@@ -0,0 +1,261 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.UserImportResult;
+import com.example.oauth.entity.AuthRolesEntity;
+import com.example.oauth.entity.AuthUsersEntity;
+import com.example.oauth.repository.AuthRolesRepository;
+import com.example.oauth.repository.AuthUsersRepository;
+import com.example.oauth.security.BoundedPasswordEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 가입 테스트 (H2, 청크 크기 5)
+ * - 청크별 JDBC 배치 INSERT, 이미 있는 / 파일 안에서 중복된 username 건너뛰기
+ * - read / imported / skipped / failed 집계 (형식이 잘못된 줄은 마지막에 합산)
+ * - DB 오류로 청크가 롤백되면 행 단위로 다시 저장하고 다음 청크 계속
+ * - JDBC 드라이버 호출을 세어서 INSERT가 행마다가 아니라 청크마다 실행되는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "auth.import.batch-size=5",
+        "auth.import.hash-threads=2"
+})
+@Import({UserImportService.class, RoleCatalog.class, UserImportServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        BoundedPasswordEncoder passwordEncoder() {
+            BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+            return new BoundedPasswordEncoder(new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt)),
+                    2, 100, Duration.ofSeconds(30));
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        static BeanPostProcessor insertCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? InsertCounter.wrap(bean) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * auth_users / auth_users_roles INSERT의 addBatch / executeBatch / 단건 실행 횟수
+     */
+    static final class InsertCounter {
+
+        static final Map<String, AtomicInteger> COUNTS = new ConcurrentHashMap<>();
+
+        static int get(String key) {
+            AtomicInteger count = COUNTS.get(key);
+            return count == null ? 0 : count.get();
+        }
+
+        static Object wrap(Object target) {
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                    ClassUtils.getAllInterfacesAsSet(target).toArray(Class<?>[]::new),
+                    (proxy, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        if (result instanceof Connection) {
+                            return wrap(result);
+                        }
+                        if (result instanceof PreparedStatement && args != null && args[0] instanceof String sql) {
+                            return countInserts((PreparedStatement) result, table(sql));
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object countInserts(PreparedStatement statement, String table) {
+            if (table == null) {
+                return statement;
+            }
+            return Proxy.newProxyInstance(statement.getClass().getClassLoader(),
+                    ClassUtils.getAllInterfacesAsSet(statement).toArray(Class<?>[]::new),
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "addBatch", "executeBatch", "executeUpdate", "execute" ->
+                                    COUNTS.computeIfAbsent(table + "." + method.getName(), k -> new AtomicInteger())
+                                            .incrementAndGet();
+                            default -> {
+                            }
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static String table(String sql) {
+            String normalized = sql.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+            if (normalized.startsWith("insert into auth_users_roles ")) {
+                return "auth_users_roles";
+            }
+            if (normalized.startsWith("insert into auth_users ")) {
+                return "auth_users";
+            }
+            return null;
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private AuthUsersRepository authUsersRepository;
+
+    @Autowired
+    private AuthRolesRepository authRolesRepository;
+
+    @Autowired
+    private RoleCatalog roleCatalog;
+
+    @BeforeEach
+    void setUp() {
+        AuthRolesEntity roleUser = authRolesRepository.save(
+                AuthRolesEntity.builder().roleName("ROLE_USER").serviceName("common").build());
+        authRolesRepository.save(AuthRolesEntity.builder().roleName("ROLE_HRM_MANAGER").serviceName("hrm").build());
+        roleCatalog.refresh();
+
+        AuthUsersEntity existing = AuthUsersEntity.builder()
+                .username("existing@example.com")
+                .password("{noop}1234")
+                .build();
+        existing.getRoles().add(roleUser);
+        authUsersRepository.save(existing);
+
+        InsertCounter.COUNTS.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        authUsersRepository.deleteAll();
+        authRolesRepository.deleteAll();
+    }
+
+    @Test
+    void importsInChunkedBatchesAndSkipsDuplicates() throws Exception {
+        Path file = tempDir.resolve("users.csv");
+        Files.writeString(file, String.join("\n",
+                "email,password,name,roles",
+                // 청크 1 (형식 오류 줄은 청크 크기에 들어가지 않음)
+                "existing@example.com,1234,,ROLE_USER",          // DB에 있음 → skipped
+                "u1@example.com,1234,유저1,ROLE_USER",
+                "u1@example.com,1234,,ROLE_USER",                // 같은 청크 중복 → skipped
+                "u2@example.com,1234,,ROLE_USER|ROLE_HRM_MANAGER",
+                "\"broken,1234",                                 // 형식 오류 → failed
+                "u3@example.com,1234,,ROLE_UNKNOWN",             // 모르는 롤 → failed
+                // 청크 2
+                "u4@example.com,,,ROLE_USER",                    // 비밀번호 없음 → failed
+                "u1@example.com,1234,,ROLE_USER",                // 청크 1에서 가입됨 → skipped
+                "u5@example.com,1234,,ROLE_USER",
+                "u6@example.com,{bcrypt}$2a$04$abcdefghijklmnopqrstuu5Jq0YV3JzGj5c3uS0qRzN4m1Cn1s7e2,,",
+                "u7@example.com,1234,,ROLE_USER",
+                // 청크 3
+                "u8@example.com,1234,,ROLE_USER"));
+
+        UserImportResult result = userImportService.importUsers(file);
+
+        assertThat(result.read()).isEqualTo(12);
+        assertThat(result.imported()).isEqualTo(6);
+        assertThat(result.skipped()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(3);
+
+        assertThat(authUsersRepository.count()).isEqualTo(7);
+        assertThat(authUsersRepository.findExistingUsernames(List.of(
+                "u1@example.com", "u2@example.com", "u3@example.com", "u4@example.com",
+                "u5@example.com", "u6@example.com", "u7@example.com", "u8@example.com")))
+                .containsExactlyInAnyOrder("u1@example.com", "u2@example.com", "u5@example.com",
+                        "u6@example.com", "u7@example.com", "u8@example.com");
+        assertThat(authUsersRepository.findCredentialsByUsername("u2@example.com").orElseThrow().roleNames())
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_HRM_MANAGER");
+        // 기존 BCrypt 해시는 그대로 저장
+        assertThat(authUsersRepository.findCredentialsByUsername("u6@example.com").orElseThrow().password())
+                .startsWith("{bcrypt}$2a$04$");
+
+        // 유저 6명 / 연결 6행을 청크마다 배치 1번씩 (행마다 단건 INSERT 없음)
+        assertThat(InsertCounter.get("auth_users.addBatch")).isEqualTo(6);
+        assertThat(InsertCounter.get("auth_users.executeBatch")).isEqualTo(3);
+        assertThat(InsertCounter.get("auth_users_roles.addBatch")).isEqualTo(6);
+        assertThat(InsertCounter.get("auth_users_roles.executeBatch")).isEqualTo(3);
+        assertThat(InsertCounter.get("auth_users.executeUpdate")).isZero();
+        assertThat(InsertCounter.get("auth_users_roles.executeUpdate")).isZero();
+    }
+
+    @Test
+    void rowLevelDatabaseFailureOnlyFailsThatRow() throws Exception {
+        Path file = tempDir.resolve("users.csv");
+        Files.writeString(file, String.join("\n",
+                "email,password,name,roles",
+                // 청크 1: Name 컬럼(255자) 초과 → flush에서 청크 전체 롤백 → 행 단위로 다시 저장
+                "u1@example.com,1234,,ROLE_USER",
+                "u2@example.com,1234," + "가".repeat(300) + ",ROLE_USER",
+                "existing@example.com,1234,,ROLE_USER",
+                "u3@example.com,1234,,ROLE_USER",
+                "u4@example.com,1234,,ROLE_USER",
+                // 청크 2
+                "u5@example.com,1234,,ROLE_USER"));
+
+        UserImportResult result = userImportService.importUsers(file);
+
+        assertThat(result.read()).isEqualTo(6);
+        assertThat(result.imported()).isEqualTo(4);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(authUsersRepository.findExistingUsernames(List.of(
+                "u1@example.com", "u2@example.com", "u3@example.com", "u4@example.com", "u5@example.com")))
+                .containsExactlyInAnyOrder("u1@example.com", "u3@example.com", "u4@example.com", "u5@example.com");
+    }
+}
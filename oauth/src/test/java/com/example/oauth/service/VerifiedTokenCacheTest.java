@@ -0,0 +1,62 @@
+package com.example.oauth.service;
+
+import com.example.oauth.dto.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VerifiedTokenCache 만료 테스트 (가짜 ticker)
+ */
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, nanos::get);
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void entryExpiresAtTokenExpOnCacheTicker() {
+        VerifiedToken token = token(60);
+
+        cache.get("token", t -> verify(token));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        cache.get("token", t -> verify(token));
+        assertThat(verifications).hasValue(1);
+
+        // ticker 기준으로 exp를 넘기면 다시 검증
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.get("token", t -> verify(token));
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void tokenWithoutExpIsNotRetained() {
+        Claims claims = Jwts.claims().setSubject("testuser@example.com");
+        VerifiedToken token = VerifiedToken.from(claims, List.of());
+
+        cache.get("token", t -> verify(token));
+        cache.get("token", t -> verify(token));
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    private VerifiedToken verify(VerifiedToken token) {
+        verifications.incrementAndGet();
+        return token;
+    }
+
+    private static VerifiedToken token(long validSeconds) {
+        Claims claims = Jwts.claims()
+                .setSubject("testuser@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(validSeconds)));
+        return VerifiedToken.from(claims, List.of());
+    }
+}